@@ -0,0 +1,121 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.jwt.BenchmarkTokens;
+import com.nhnacademy.marketgg.gateway.jwt.JwtKeyRing;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedTokenCache;
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import com.nhnacademy.marketgg.gateway.revocation.RevocationChecker;
+import com.nhnacademy.marketgg.gateway.revocation.RevocationFailurePolicy;
+import com.nhnacademy.marketgg.gateway.revocation.SessionEpochChecker;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Key;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * {@link JwtAuthorizationFilter}, {@link HeaderFilter} 가 만드는 GatewayFilter 의 요청당 비용을 측정합니다.
+ * 필터가 요청 헤더를 변경하므로 매 호출마다 새 exchange 를 만들며, 그 비용은 {@link #exchangeOnly()} 로 따로 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GatewayFilterBenchmark {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+    private static final String PATH = "/shop/v1/products?page=0&size=20";
+
+    private static final GatewayFilterChain CHAIN = exchange -> Mono.empty();
+
+    private GatewayFilter cachedJwtFilter;
+    private GatewayFilter uncachedJwtFilter;
+    private GatewayFilter revokedJwtFilter;
+    private GatewayFilter headerFilter;
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        Key key = BenchmarkTokens.newKey();
+        authorization = "Bearer " + BenchmarkTokens.newToken(key);
+
+        cachedJwtFilter = newJwtFilter(key, Boolean.FALSE, Duration.ofMinutes(5));
+        uncachedJwtFilter = newJwtFilter(key, Boolean.FALSE, Duration.ZERO);
+        revokedJwtFilter = newJwtFilter(key, Boolean.TRUE, Duration.ZERO);
+        headerFilter = new HeaderFilter(new GatewayMetrics(new SimpleMeterRegistry()))
+            .apply(new HeaderFilter.Config(FORWARDED_FOR));
+    }
+
+    @Benchmark
+    public MockServerWebExchange exchangeOnly() {
+        return authorizedExchange();
+    }
+
+    @Benchmark
+    public Void jwtAuthorizationCached() {
+        return cachedJwtFilter.filter(authorizedExchange(), CHAIN).block();
+    }
+
+    @Benchmark
+    public Void jwtAuthorizationUncached() {
+        return uncachedJwtFilter.filter(authorizedExchange(), CHAIN).block();
+    }
+
+    @Benchmark
+    public Void jwtAuthorizationRevoked() {
+        return revokedJwtFilter.filter(authorizedExchange(), CHAIN).block();
+    }
+
+    @Benchmark
+    public Void jwtAuthorizationAnonymous() {
+        return cachedJwtFilter.filter(anonymousExchange(), CHAIN).block();
+    }
+
+    @Benchmark
+    public Void headerFilter() {
+        return headerFilter.filter(anonymousExchange(), CHAIN).block();
+    }
+
+    private MockServerWebExchange authorizedExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                                                               .header(HttpHeaders.AUTHORIZATION, authorization)
+                                                               .header(FORWARDED_FOR, "203.0.113.7"));
+    }
+
+    private static MockServerWebExchange anonymousExchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PATH)
+                                                               .header(FORWARDED_FOR, "203.0.113.7"));
+    }
+
+    private static GatewayFilter newJwtFilter(Key key, Boolean revoked, Duration cacheTtl) {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        VerifiedTokenCache cache = new VerifiedTokenCache(10_000, cacheTtl, registry);
+
+        RevocationChecker revocationChecker = token -> Mono.just(revoked);
+        SessionEpochChecker epochChecker = new SessionEpochChecker(null, false, Duration.ofSeconds(5), 10_000,
+                                                                   Duration.ofMillis(200),
+                                                                   RevocationFailurePolicy.FAIL_CLOSED, registry);
+
+        return new JwtAuthorizationFilter(JwtKeyRing.of(key), revocationChecker, epochChecker, cache,
+                                          new GatewayMetrics(registry))
+            .apply(new JwtAuthorizationFilter.Config());
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.nhnacademy.marketgg.gateway.handler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+/**
+ * {@link WebExceptionHandler#handle} 의 오류 응답 생성 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebExceptionHandlerBenchmark {
+
+    private WebExceptionHandler handler;
+    private Throwable exception;
+
+    @Setup
+    public void setUp() {
+        handler = new WebExceptionHandler(new ErrorResponses(new ObjectMapper()),
+                                          new GatewayMetrics(new SimpleMeterRegistry()),
+                                          Duration.ofSeconds(10));
+        exception = new ConnectException("Connection refused: shop-service/10.0.0.12:8080");
+    }
+
+    @Benchmark
+    public Void handle() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/shop/v1/products"));
+
+        return handler.handle(exchange, exception).block();
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 벤치마크에 쓰이는 실제와 비슷한 형태의 JWT 를 만듭니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class BenchmarkTokens {
+
+    private static final Duration TOKEN_LIFETIME = Duration.ofMinutes(30);
+
+    /**
+     * 운영과 같은 HS512 서명 키를 생성합니다.
+     *
+     * @return 서명 키
+     */
+    public static Key newKey() {
+        return Keys.secretKeyFor(SignatureAlgorithm.HS512);
+    }
+
+    /**
+     * 인증 서버가 발급하는 형태의 Access Token 을 생성합니다.
+     *
+     * @param key - 서명 키
+     * @return JWT
+     */
+    public static String newToken(Key key) {
+        Instant now = Instant.now();
+
+        return Jwts.builder()
+                   .setSubject(UUID.randomUUID().toString())
+                   .claim(JwtUtils.AUTHORITIES, List.of("ROLE_USER", "ROLE_SELLER"))
+                   .setIssuedAt(Date.from(now))
+                   .setExpiration(Date.from(now.plus(TOKEN_LIFETIME)))
+                   .signWith(key)
+                   .compact();
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import io.jsonwebtoken.JwtParser;
+import java.security.Key;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link JwtUtils} 의 토큰 파싱 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtUtilsBenchmark {
+
+    private Key key;
+    private JwtParser parser;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = BenchmarkTokens.newKey();
+        parser = JwtUtils.createParser(key);
+        token = BenchmarkTokens.newToken(key);
+    }
+
+    @Benchmark
+    public String parseToken() {
+        return JwtUtils.parseToken(token, key);
+    }
+
+    @Benchmark
+    public String getUuid() {
+        return JwtUtils.getUuid(token, key);
+    }
+
+    @Benchmark
+    public String getRoles() {
+        return JwtUtils.getRoles(token, key);
+    }
+
+    /**
+     * parseToken, getUuid, getRoles 를 차례로 호출하는 기존 요청당 비용입니다.
+     */
+    @Benchmark
+    public void parseThenExtract(Blackhole blackhole) {
+        blackhole.consume(JwtUtils.parseToken(token, key));
+        blackhole.consume(JwtUtils.getUuid(token, key));
+        blackhole.consume(JwtUtils.getRoles(token, key));
+    }
+
+    @Benchmark
+    public Optional<VerifiedClaims> verify() {
+        return JwtUtils.verify(token, parser);
+    }
+
+}
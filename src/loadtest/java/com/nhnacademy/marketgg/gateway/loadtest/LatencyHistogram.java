@@ -0,0 +1,97 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 여러 스레드에서 동시에 기록할 수 있는 로그-선형 지연 시간 히스토그램입니다.
+ *
+ * <p>마이크로초 단위로 기록하며, 64 us 미만은 1 us 단위로, 그 이상은 2 의 거듭제곱 구간마다 32 개의 버킷으로 나눕니다.
+ * 따라서 백분위 값의 오차는 3% 이내이며, 값은 버킷의 상한으로 보고합니다.
+ */
+public class LatencyHistogram {
+
+    private static final int LINEAR_BUCKETS = 64;
+    private static final int SUB_BUCKETS = 32;
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int FIRST_EXPONENT = 6;
+    private static final int MAX_EXPONENT = 40;
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+
+    private final AtomicLongArray counts =
+        new AtomicLongArray(LINEAR_BUCKETS + (MAX_EXPONENT - FIRST_EXPONENT + 1) * SUB_BUCKETS);
+
+    /**
+     * 지연 시간 하나를 기록합니다.
+     *
+     * @param nanos - 나노초 단위 지연 시간입니다.
+     */
+    public void record(long nanos) {
+        counts.incrementAndGet(indexOf(Math.min(MAX_VALUE, TimeUnit.NANOSECONDS.toMicros(Math.max(0, nanos)))));
+    }
+
+    /**
+     * 기록된 값의 개수를 반환합니다.
+     *
+     * @return 기록된 값의 개수
+     */
+    public long count() {
+        long total = 0;
+
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+
+        return total;
+    }
+
+    /**
+     * 백분위 값을 계산합니다.
+     *
+     * @param percentile - 0 초과 100 이하의 백분위입니다.
+     * @return 마이크로초 단위 백분위 값이며, 기록된 값이 없으면 0 을 반환합니다.
+     */
+    public long percentile(double percentile) {
+        long total = this.count();
+
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long cumulative = 0;
+
+        for (int i = 0; i < counts.length(); i++) {
+            cumulative += counts.get(i);
+
+            if (cumulative >= rank) {
+                return upperBoundOf(i);
+            }
+        }
+
+        return MAX_VALUE;
+    }
+
+    private static int indexOf(long micros) {
+        if (micros < LINEAR_BUCKETS) {
+            return (int) micros;
+        }
+
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKETS;
+
+        return LINEAR_BUCKETS + (exponent - FIRST_EXPONENT) * SUB_BUCKETS + subBucket;
+    }
+
+    private static long upperBoundOf(int index) {
+        if (index < LINEAR_BUCKETS) {
+            return index;
+        }
+
+        int exponent = FIRST_EXPONENT + (index - LINEAR_BUCKETS) / SUB_BUCKETS;
+        long subBucket = (index - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS;
+
+        return ((subBucket + 1) << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaders;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientResponse;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 인증, 로그아웃, 익명 요청을 섞어 게이트웨이에 보내는 closed-loop 부하 생성기입니다.
+ *
+ * <p>동시성 수만큼의 가상 사용자가 응답을 받는 즉시 다음 요청을 보냅니다.
+ * 응답이 200 이 아니거나, 백엔드 대역이 돌려준 AUTH-ID 유무가 요청 종류와 맞지 않으면 실패로 셉니다.
+ * closed-loop 이므로 게이트웨이가 느려지면 요청률도 함께 떨어지며, 지연 시간은 그만큼 낮게 측정될 수 있습니다.
+ */
+@Slf4j
+public class LoadGenerator implements AutoCloseable {
+
+    /**
+     * 클라이언트 IP 를 전달하는 헤더입니다.
+     */
+    public static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    private static final String PATH = "/shop/v1/products?page=0&size=20";
+    private static final String BEARER = "Bearer ";
+    private static final int CLIENT_ADDRESSES = 256;
+
+    private final ConnectionProvider connectionProvider;
+    private final HttpClient httpClient;
+    private final int concurrency;
+    private final TrafficType[] types;
+    private final int[] cumulativeWeights;
+    private final List<String> authenticatedTokens;
+    private final List<String> revokedTokens;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param baseUrl             - 게이트웨이 주소입니다.
+     * @param concurrency         - 동시에 요청을 보내는 가상 사용자 수이며, 게이트웨이로의 연결 수와 같습니다.
+     * @param mix                 - 요청 종류별 비중입니다.
+     * @param authenticatedTokens - 유효한 Access Token 목록입니다.
+     * @param revokedTokens       - 로그아웃된 Access Token 목록입니다.
+     */
+    public LoadGenerator(String baseUrl, int concurrency, Map<TrafficType, Integer> mix,
+                         List<String> authenticatedTokens, List<String> revokedTokens) {
+
+        this.connectionProvider = ConnectionProvider.builder("loadtest")
+                                                    .maxConnections(concurrency)
+                                                    .pendingAcquireMaxCount(-1)
+                                                    .build();
+        this.httpClient = HttpClient.create(connectionProvider)
+                                    .baseUrl(baseUrl);
+        this.concurrency = concurrency;
+        this.types = mix.keySet().toArray(new TrafficType[0]);
+        this.cumulativeWeights = new int[types.length];
+        this.authenticatedTokens = authenticatedTokens;
+        this.revokedTokens = revokedTokens;
+
+        int sum = 0;
+
+        for (int i = 0; i < types.length; i++) {
+            sum += mix.get(types[i]);
+            cumulativeWeights[i] = sum;
+        }
+    }
+
+    /**
+     * 지정한 시간 동안 부하를 발생시킵니다.
+     *
+     * @param duration - 부하를 발생시킬 시간입니다.
+     * @return 요청 종류별 결과
+     */
+    public Result run(Duration duration) {
+        Result result = new Result();
+        long start = System.nanoTime();
+        long deadline = start + duration.toNanos();
+
+        Flux.range(0, concurrency)
+            .flatMap(user -> Mono.defer(() -> this.send(result))
+                                 .repeat(() -> System.nanoTime() < deadline), concurrency)
+            .blockLast();
+
+        result.elapsedNanos = System.nanoTime() - start;
+
+        return result;
+    }
+
+    @Override
+    public void close() {
+        connectionProvider.disposeLater().block();
+    }
+
+    private Mono<Void> send(Result result) {
+        TrafficType type = this.nextType();
+        long start = System.nanoTime();
+
+        return httpClient.headers(headers -> this.prepare(type, headers))
+                         .get()
+                         .uri(PATH)
+                         .responseSingle((response, body) -> {
+                             boolean expected = isExpected(type, response);
+
+                             return body.asByteArray().thenReturn(expected);
+                         })
+                         .onErrorReturn(Boolean.FALSE)
+                         .doOnNext(expected -> result.record(type, System.nanoTime() - start, expected))
+                         .then();
+    }
+
+    private TrafficType nextType() {
+        int pick = ThreadLocalRandom.current().nextInt(cumulativeWeights[cumulativeWeights.length - 1]);
+
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (pick < cumulativeWeights[i]) {
+                return types[i];
+            }
+        }
+
+        return types[types.length - 1];
+    }
+
+    private void prepare(TrafficType type, HttpHeaders headers) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        headers.set(FORWARDED_FOR, "203.0.113." + random.nextInt(CLIENT_ADDRESSES));
+
+        if (type == TrafficType.AUTHENTICATED) {
+            headers.set(HttpHeaderNames.AUTHORIZATION,
+                        BEARER + authenticatedTokens.get(random.nextInt(authenticatedTokens.size())));
+        } else if (type == TrafficType.REVOKED) {
+            headers.set(HttpHeaderNames.AUTHORIZATION,
+                        BEARER + revokedTokens.get(random.nextInt(revokedTokens.size())));
+        }
+    }
+
+    private static boolean isExpected(TrafficType type, HttpClientResponse response) {
+        return response.status().code() == 200
+            && response.responseHeaders().contains(UpstreamStub.AUTH_ID_ECHO) == type.isAuthenticatedUpstream();
+    }
+
+    /**
+     * 요청 종류별 지연 시간 분포와 실패 수입니다.
+     */
+    public static class Result {
+
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final Map<TrafficType, LatencyHistogram> histograms = new EnumMap<>(TrafficType.class);
+        private final Map<TrafficType, LongAdder> failures = new EnumMap<>(TrafficType.class);
+        private long elapsedNanos;
+
+        Result() {
+            for (TrafficType type : TrafficType.values()) {
+                histograms.put(type, new LatencyHistogram());
+                failures.put(type, new LongAdder());
+            }
+        }
+
+        void record(TrafficType type, long nanos, boolean expected) {
+            total.record(nanos);
+            histograms.get(type).record(nanos);
+
+            if (!expected) {
+                failures.get(type).increment();
+            }
+        }
+
+        /**
+         * 전체 실패 수를 반환합니다.
+         *
+         * @return 실패 수
+         */
+        public long getFailures() {
+            return failures.values()
+                           .stream()
+                           .mapToLong(LongAdder::sum)
+                           .sum();
+        }
+
+        /**
+         * 처리량과 p50/p99/p99.9 지연 시간을 로그로 출력합니다.
+         */
+        public void print() {
+            double seconds = elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1);
+
+            log.info(String.format("%-13s %10s %8s %12s %10s %10s %10s",
+                                   "type", "requests", "failed", "req/s", "p50(us)", "p99(us)", "p99.9(us)"));
+
+            for (TrafficType type : TrafficType.values()) {
+                print(type.name(), histograms.get(type), failures.get(type).sum(), seconds);
+            }
+
+            print("TOTAL", total, this.getFailures(), seconds);
+        }
+
+        private static void print(String name, LatencyHistogram histogram, long failed, double seconds) {
+            long count = histogram.count();
+
+            log.info(String.format("%-13s %10d %8d %12.1f %10d %10d %10d", name, count, failed, count / seconds,
+                                   histogram.percentile(50), histogram.percentile(99),
+                                   histogram.percentile(99.9)));
+        }
+
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import com.nhnacademy.marketgg.gateway.filter.HeaderFilter;
+import com.nhnacademy.marketgg.gateway.filter.JwtAuthorizationFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 부하 테스트용 라우트를 등록합니다.
+ *
+ * <p>{@link HeaderFilter.Config} 는 기본 생성자가 없어 YAML 로 만들 수 없으므로 코드로 라우트를 구성합니다.
+ * 컴포넌트 스캔에 잡히지 않도록 {@code @Configuration} 을 붙이지 않으며, {@link LoadTestSuite} 가 직접 등록합니다.
+ */
+public class LoadTestRoutes {
+
+    /**
+     * 모든 경로를 백엔드 대역으로 보내며, 운영 라우트와 같이 JwtAuthorizationFilter 와 HeaderFilter 를 거치게 합니다.
+     *
+     * @param builder                - RouteLocatorBuilder 입니다.
+     * @param jwtAuthorizationFilter - JWT 인증 필터입니다.
+     * @param headerFilter           - 클라이언트 IP 헤더 필터입니다.
+     * @param upstreamUri            - 백엔드 대역의 주소입니다.
+     * @return RouteLocator
+     */
+    @Bean
+    public RouteLocator loadTestRouteLocator(RouteLocatorBuilder builder,
+                                             JwtAuthorizationFilter jwtAuthorizationFilter,
+                                             HeaderFilter headerFilter,
+                                             @Value("${gg.loadtest.upstream-uri}") String upstreamUri) {
+
+        return builder.routes()
+                      .route("loadtest", route -> route.path("/**")
+                                                       .filters(filters -> filters.filters(
+                                                           jwtAuthorizationFilter.apply(
+                                                               new JwtAuthorizationFilter.Config()),
+                                                           headerFilter.apply(
+                                                               new HeaderFilter.Config(LoadGenerator.FORWARDED_FOR))))
+                                                       .uri(upstreamUri))
+                      .build();
+    }
+
+}
@@ -0,0 +1,168 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import com.nhnacademy.marketgg.gateway.GatewayApplication;
+import com.nhnacademy.marketgg.gateway.util.RevocationKeyUtils;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.convert.DurationStyle;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * Secure Manager, Redis, 백엔드 대역을 띄우고 그 위에서 게이트웨이를 기동한 뒤 부하를 발생시킵니다.
+ * 외부 네트워크 없이 한 대의 Linux 장비에서 실행됩니다.
+ *
+ * <p>실행 순서는 다음과 같습니다.
+ * <ol>
+ *     <li>keytool 로 localhost 용 자체 서명 PKCS12 키스토어를 만듭니다. 이 키스토어는 Secure Manager 대역의 서버 인증서,
+ *     게이트웨이의 클라이언트 인증서({@code gg.keystore.*}), 그리고 게이트웨이가 신뢰할 인증서로 함께 쓰입니다.</li>
+ *     <li>JWT Secret 과 Access Token 을 만들고, 일부 토큰을 로그아웃 상태로 Redis 대역에 저장합니다.</li>
+ *     <li>{@code loadtest.yml} 과 대역 주소로 게이트웨이를 임의 포트에 기동합니다.</li>
+ *     <li>워밍업 후 지정한 시간 동안 부하를 발생시키고 결과를 출력합니다. 기대와 다른 응답이 있으면 1 로 종료합니다.</li>
+ * </ol>
+ *
+ * <p>설정은 시스템 프로퍼티로 바꿀 수 있습니다.
+ * <ul>
+ *     <li>{@code loadtest.warmup} (10s), {@code loadtest.duration} (30s)</li>
+ *     <li>{@code loadtest.concurrency} (64) - 가상 사용자 수</li>
+ *     <li>{@code loadtest.users} (1000), {@code loadtest.revoked-users} (100) - 유효한 토큰과 로그아웃된 토큰 수</li>
+ *     <li>{@code loadtest.upstream-latency} (5ms) - 백엔드 대역의 응답 지연</li>
+ *     <li>{@code loadtest.mix} (authenticated=70,revoked=10,anonymous=20) - 요청 종류별 비중</li>
+ * </ul>
+ * 그 밖의 {@code gg.*} 설정은 {@code loadtest.yml} 을 고치거나 {@code -Dgg.revocation.batch.enabled=true} 처럼 넘깁니다.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LoadTestSuite {
+
+    private static final String KEYSTORE_RESOURCE = "loadtest/loadtest.p12";
+    private static final String KEYSTORE_PASSWORD = "loadtest";
+    private static final byte[] LEGACY_REVOKED_VALUE = "logout".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] COMPACT_REVOKED_VALUE = {1};
+
+    public static void main(String[] args) throws Exception {
+        Duration warmup = duration("loadtest.warmup", "10s");
+        Duration duration = duration("loadtest.duration", "30s");
+        Duration upstreamLatency = duration("loadtest.upstream-latency", "5ms");
+        int concurrency = Integer.getInteger("loadtest.concurrency", 64);
+        int users = Integer.getInteger("loadtest.users", 1000);
+        int revokedUsers = Integer.getInteger("loadtest.revoked-users", 100);
+        Map<TrafficType, Integer> mix =
+            mix(System.getProperty("loadtest.mix", "authenticated=70,revoked=10,anonymous=20"));
+
+        Path keyStore = generateKeyStore();
+        System.setProperty("javax.net.ssl.trustStore", keyStore.toString());
+        System.setProperty("javax.net.ssl.trustStoreType", "PKCS12");
+        System.setProperty("javax.net.ssl.trustStorePassword", KEYSTORE_PASSWORD);
+
+        String jwtSecret = LoadTestTokens.newSecret();
+        List<String> authenticatedTokens = LoadTestTokens.newTokens(jwtSecret, users);
+        List<String> revokedTokens = LoadTestTokens.newTokens(jwtSecret, revokedUsers);
+        long failures;
+
+        try (RedisStub redis = new RedisStub();
+             SecureManagerStub secureManager = new SecureManagerStub(keyStore, KEYSTORE_PASSWORD);
+             UpstreamStub upstream = new UpstreamStub(upstreamLatency)) {
+
+            for (String token : revokedTokens) {
+                redis.set(RevocationKeyUtils.legacyKey(token), LEGACY_REVOKED_VALUE);
+                redis.set(RevocationKeyUtils.compactKey(token), COMPACT_REVOKED_VALUE);
+            }
+
+            String[] gatewayArgs = {
+                "--spring.config.name=loadtest",
+                "--server.port=0",
+                "--gg.keystore.type=PKCS12",
+                "--gg.keystore.path=" + KEYSTORE_RESOURCE,
+                "--gg.keystore.password=" + KEYSTORE_PASSWORD,
+                "--gg.redis.url=" + secureManager.register("redis-info", "localhost:" + redis.getPort() + ":0"),
+                "--gg.redis.password-url=" + secureManager.register("redis-password", "loadtest"),
+                "--gg.jwt.secret-url=" + secureManager.register("jwt-secret", jwtSecret),
+                "--gg.loadtest.upstream-uri=" + upstream.getUri()
+            };
+
+            try (ConfigurableApplicationContext gateway =
+                     new SpringApplicationBuilder(GatewayApplication.class, LoadTestRoutes.class).run(gatewayArgs);
+                 LoadGenerator generator = new LoadGenerator("http://localhost:" + port(gateway), concurrency, mix,
+                                                             authenticatedTokens, revokedTokens)) {
+
+                log.info("워밍업을 시작합니다. {}", warmup);
+                generator.run(warmup);
+
+                log.info("측정을 시작합니다. 시간: {}, 동시성: {}, 백엔드 지연: {}, 비중: {}",
+                         duration, concurrency, upstreamLatency, mix);
+                LoadGenerator.Result result = generator.run(duration);
+                result.print();
+                failures = result.getFailures();
+            }
+        }
+
+        if (failures > 0) {
+            log.warn("기대와 다른 응답이 {} 건 있었습니다.", failures);
+        }
+
+        System.exit(failures > 0 ? 1 : 0);
+    }
+
+    private static Path generateKeyStore() throws Exception {
+        Path classes = Paths.get(LoadTestSuite.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        Path keyStore = classes.resolve(KEYSTORE_RESOURCE);
+
+        Files.createDirectories(keyStore.getParent());
+        Files.deleteIfExists(keyStore);
+
+        Process keytool = new ProcessBuilder(Paths.get(System.getProperty("java.home"), "bin", "keytool").toString(),
+                                             "-genkeypair", "-alias", "loadtest",
+                                             "-keyalg", "RSA", "-keysize", "2048", "-validity", "1",
+                                             "-dname", "CN=localhost", "-ext", "SAN=dns:localhost,ip:127.0.0.1",
+                                             "-storetype", "PKCS12", "-keystore", keyStore.toString(),
+                                             "-storepass", KEYSTORE_PASSWORD)
+            .inheritIO()
+            .start();
+
+        if (keytool.waitFor() != 0) {
+            throw new IllegalStateException("keytool 로 키스토어를 만들지 못했습니다.");
+        }
+
+        return keyStore;
+    }
+
+    private static int port(ConfigurableApplicationContext context) {
+        return ((WebServerApplicationContext) context).getWebServer().getPort();
+    }
+
+    private static Duration duration(String name, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(name, defaultValue));
+    }
+
+    private static Map<TrafficType, Integer> mix(String value) {
+        Map<TrafficType, Integer> mix = new EnumMap<>(TrafficType.class);
+
+        for (String entry : value.split(",")) {
+            String[] pair = entry.trim().split("=");
+            int weight = Integer.parseInt(pair[1].trim());
+
+            if (weight > 0) {
+                mix.put(TrafficType.valueOf(pair[0].trim().toUpperCase(Locale.ROOT)), weight);
+            }
+        }
+
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix 에 비중이 0 보다 큰 요청 종류가 없습니다: " + value);
+        }
+
+        return mix;
+    }
+
+}
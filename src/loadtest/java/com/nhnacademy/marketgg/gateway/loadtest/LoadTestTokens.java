@@ -0,0 +1,63 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import com.nhnacademy.marketgg.gateway.jwt.JwtUtils;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 부하 테스트에 쓰이는 JWT Secret 과 Access Token 을 만듭니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class LoadTestTokens {
+
+    private static final int SECRET_LENGTH = 64;
+    private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+    /**
+     * Secure Manager 가 내려주는 형태(Base64 URL)의 HS512 JWT Secret 을 생성합니다.
+     *
+     * @return JWT Secret
+     */
+    public static String newSecret() {
+        byte[] secret = new byte[SECRET_LENGTH];
+        new SecureRandom().nextBytes(secret);
+
+        return Encoders.BASE64URL.encode(secret);
+    }
+
+    /**
+     * 서로 다른 사용자의 Access Token 을 생성합니다.
+     *
+     * @param secret - JWT Secret 입니다.
+     * @param count  - 생성할 토큰 수입니다.
+     * @return Access Token 목록
+     */
+    public static List<String> newTokens(String secret, int count) {
+        Key key = JwtUtils.getKey(secret);
+        Instant now = Instant.now();
+        List<String> tokens = new ArrayList<>(count);
+
+        for (int i = 0; i < count; i++) {
+            tokens.add(Jwts.builder()
+                           .setSubject(UUID.randomUUID().toString())
+                           .claim(JwtUtils.AUTHORITIES, List.of("ROLE_USER"))
+                           .setIssuedAt(Date.from(now))
+                           .setExpiration(Date.from(now.plus(TOKEN_LIFETIME)))
+                           .signWith(key)
+                           .compact());
+        }
+
+        return tokens;
+    }
+
+}
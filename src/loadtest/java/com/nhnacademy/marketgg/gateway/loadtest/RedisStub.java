@@ -0,0 +1,286 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 게이트웨이가 쓰는 명령만 지원하는 메모리 기반 Redis 대역입니다. RESP2 로만 응답합니다.
+ *
+ * <p>지원하는 명령은 다음과 같습니다.
+ * <ul>
+ *     <li>연결: AUTH, SELECT, CLIENT, PING, QUIT, INFO, COMMAND. HELLO 에는 오류로 응답하여 Lettuce 가 RESP2 로
+ *     전환하게 합니다.</li>
+ *     <li>키: GET, SET, MGET, EXISTS, DEL, EXPIRE, PEXPIRE. 만료 시간은 저장하지 않습니다.</li>
+ *     <li>스크립트: EVAL, EVALSHA. 스크립트를 실행하지 않고 마지막 인자를 정수로 돌려주므로, 허용량 임대 스크립트는
+ *     요청한 허용량을 모두 빌려준 것으로 처리됩니다.</li>
+ *     <li>PUBLISH 는 구독자가 없는 것으로 응답합니다.</li>
+ * </ul>
+ *
+ * <p>연결마다 스레드 하나가 명령을 읽고 응답하며, 읽을 명령이 남아있지 않을 때만 flush 하여 파이프라이닝된 응답을 묶어 보냅니다.
+ */
+@Slf4j
+public class RedisStub implements AutoCloseable {
+
+    private static final byte[] CRLF = {'\r', '\n'};
+    private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] PONG = "+PONG\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_BULK = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] EMPTY_ARRAY = "*0\r\n".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] INFO = ("# Server\r\nredis_version:6.2.0\r\nredis_mode:standalone\r\n"
+        + "# Replication\r\nrole:master\r\nconnected_slaves:0\r\n").getBytes(StandardCharsets.US_ASCII);
+
+    private final Map<ByteBuffer, byte[]> store = new ConcurrentHashMap<>();
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "redis-stub");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * 루프백 주소의 임의 포트에서 Redis 대역을 시작합니다.
+     *
+     * @throws IOException 포트를 열 수 없는 경우
+     */
+    public RedisStub() throws IOException {
+        this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+        executor.execute(this::accept);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * 키와 값을 저장합니다.
+     *
+     * @param key   - 키입니다.
+     * @param value - 값입니다.
+     */
+    public void set(byte[] key, byte[] value) {
+        store.put(ByteBuffer.wrap(key), value);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay(true);
+                executor.execute(() -> this.serve(socket));
+            } catch (IOException ex) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("Redis 대역이 연결을 받지 못했습니다. {}", ex.toString());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+
+            while (true) {
+                List<byte[]> command = readCommand(in);
+
+                if (command.isEmpty()) {
+                    return;
+                }
+
+                boolean quit = this.execute(command, out);
+
+                if (quit || in.available() == 0) {
+                    out.flush();
+                }
+
+                if (quit) {
+                    return;
+                }
+            }
+        } catch (EOFException ex) {
+            log.debug("Redis 대역의 연결이 닫혔습니다.");
+        } catch (IOException ex) {
+            log.debug("Redis 대역의 연결에서 오류가 발생했습니다. {}", ex.toString());
+        }
+    }
+
+    private boolean execute(List<byte[]> command, OutputStream out) throws IOException {
+        String name = new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+
+        switch (name) {
+            case "AUTH":
+            case "SELECT":
+            case "CLIENT":
+            case "READONLY":
+                out.write(OK);
+                break;
+            case "PING":
+                out.write(PONG);
+                break;
+            case "QUIT":
+                out.write(OK);
+                return true;
+            case "INFO":
+                writeBulk(out, INFO);
+                break;
+            case "COMMAND":
+                out.write(EMPTY_ARRAY);
+                break;
+            case "GET":
+                writeBulk(out, store.get(ByteBuffer.wrap(command.get(1))));
+                break;
+            case "SET":
+                store.put(ByteBuffer.wrap(command.get(1)), command.get(2));
+                out.write(OK);
+                break;
+            case "MGET":
+                writeHeader(out, '*', command.size() - 1);
+                for (int i = 1; i < command.size(); i++) {
+                    writeBulk(out, store.get(ByteBuffer.wrap(command.get(i))));
+                }
+                break;
+            case "EXISTS":
+                writeInteger(out, this.countKeys(command, false));
+                break;
+            case "DEL":
+                writeInteger(out, this.countKeys(command, true));
+                break;
+            case "EXPIRE":
+            case "PEXPIRE":
+                writeInteger(out, store.containsKey(ByteBuffer.wrap(command.get(1))) ? 1 : 0);
+                break;
+            case "EVAL":
+            case "EVALSHA":
+                writeInteger(out, parseLong(command.get(command.size() - 1)));
+                break;
+            case "PUBLISH":
+                writeInteger(out, 0);
+                break;
+            default:
+                out.write(("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.US_ASCII));
+        }
+
+        return false;
+    }
+
+    private long countKeys(List<byte[]> command, boolean remove) {
+        long count = 0;
+
+        for (int i = 1; i < command.size(); i++) {
+            ByteBuffer key = ByteBuffer.wrap(command.get(i));
+
+            if (remove ? Objects.nonNull(store.remove(key)) : store.containsKey(key)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    private static List<byte[]> readCommand(InputStream in) throws IOException {
+        int type = in.read();
+
+        if (type == -1) {
+            return List.of();
+        }
+
+        if (type != '*') {
+            throw new IOException("RESP 배열이 아닌 명령은 지원하지 않습니다.");
+        }
+
+        int size = (int) readNumber(in);
+        List<byte[]> command = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            if (in.read() != '$') {
+                throw new IOException("RESP bulk string 이 아닌 인자는 지원하지 않습니다.");
+            }
+
+            byte[] argument = in.readNBytes((int) readNumber(in));
+
+            if (in.readNBytes(CRLF.length).length != CRLF.length) {
+                throw new EOFException();
+            }
+
+            command.add(argument);
+        }
+
+        return command;
+    }
+
+    private static long readNumber(InputStream in) throws IOException {
+        long value = 0;
+        boolean negative = false;
+        int read;
+
+        while ((read = in.read()) != '\r') {
+            if (read == -1) {
+                throw new EOFException();
+            }
+
+            if (read == '-') {
+                negative = true;
+            } else {
+                value = value * 10 + (read - '0');
+            }
+        }
+
+        in.read();
+
+        return negative ? -value : value;
+    }
+
+    private static long parseLong(byte[] value) {
+        try {
+            return Long.parseLong(new String(value, StandardCharsets.US_ASCII));
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+
+    private static void writeHeader(OutputStream out, char type, long value) throws IOException {
+        out.write(type);
+        out.write(Long.toString(value).getBytes(StandardCharsets.US_ASCII));
+        out.write(CRLF);
+    }
+
+    private static void writeInteger(OutputStream out, long value) throws IOException {
+        writeHeader(out, ':', value);
+    }
+
+    private static void writeBulk(OutputStream out, byte[] value) throws IOException {
+        if (Objects.isNull(value)) {
+            out.write(NULL_BULK);
+            return;
+        }
+
+        writeHeader(out, '$', value.length);
+        out.write(value);
+        out.write(CRLF);
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.ssl.ClientAuth;
+import io.netty.handler.ssl.SslContext;
+import io.netty.handler.ssl.SslContextBuilder;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.TrustManagerFactory;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * Secure Manager 의 비밀 값 조회 API 를 흉내내는 HTTPS 대역입니다.
+ *
+ * <p>{@code GET /secrets/{name}} 에 Secure Manager 와 같은 {@code {"body": {"secret": ...}}} 형식으로 응답합니다.
+ * 서버 인증서와 클라이언트 인증서 검증에 같은 PKCS12 키스토어를 사용하며, 클라이언트 인증서가 없는 연결은 거부합니다.
+ */
+public class SecureManagerStub implements AutoCloseable {
+
+    private static final String PATH_PREFIX = "/secrets/";
+
+    private final Map<String, byte[]> secrets = new ConcurrentHashMap<>();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final DisposableServer server;
+
+    /**
+     * 루프백 주소의 임의 포트에서 Secure Manager 대역을 시작합니다.
+     *
+     * @param keyStorePath     - 서버 인증서이자 신뢰할 클라이언트 인증서를 담은 PKCS12 키스토어 경로입니다.
+     * @param keyStorePassword - 키스토어 비밀번호입니다.
+     * @throws Exception 키스토어를 읽거나 포트를 열 수 없는 경우
+     */
+    public SecureManagerStub(Path keyStorePath, String keyStorePassword) throws Exception {
+        KeyStore keyStore = KeyStore.getInstance("PKCS12");
+
+        try (InputStream in = Files.newInputStream(keyStorePath)) {
+            keyStore.load(in, keyStorePassword.toCharArray());
+        }
+
+        KeyManagerFactory keyManagerFactory =
+            KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, keyStorePassword.toCharArray());
+
+        TrustManagerFactory trustManagerFactory =
+            TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
+        trustManagerFactory.init(keyStore);
+
+        SslContext sslContext = SslContextBuilder.forServer(keyManagerFactory)
+                                                 .trustManager(trustManagerFactory)
+                                                 .clientAuth(ClientAuth.REQUIRE)
+                                                 .build();
+
+        this.server = HttpServer.create()
+                                .host("localhost")
+                                .port(0)
+                                .secure(spec -> spec.sslContext(sslContext))
+                                .handle((request, response) -> {
+                                    String path = request.path();
+                                    byte[] body = secrets.get(path.substring(path.lastIndexOf('/') + 1));
+
+                                    if (!request.uri().startsWith(PATH_PREFIX) || Objects.isNull(body)) {
+                                        return response.status(HttpResponseStatus.NOT_FOUND).send();
+                                    }
+
+                                    return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                                   .sendByteArray(Mono.just(body));
+                                })
+                                .bindNow();
+    }
+
+    /**
+     * 비밀 값을 등록합니다.
+     *
+     * @param name   - 비밀 값의 이름입니다.
+     * @param secret - 비밀 값입니다.
+     * @return 비밀 값을 조회하는 URL 을 반환합니다.
+     * @throws JsonProcessingException 응답 본문을 만들 수 없는 경우
+     */
+    public String register(String name, String secret) throws JsonProcessingException {
+        secrets.put(name, objectMapper.writeValueAsBytes(Map.of("body", Map.of("secret", secret))));
+
+        return "https://localhost:" + server.port() + PATH_PREFIX + name;
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+}
@@ -0,0 +1,30 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 부하 생성기가 만드는 요청의 종류입니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TrafficType {
+
+    /**
+     * 유효한 Access Token 을 가진 요청입니다. 백엔드에 AUTH-ID 헤더가 전달되어야 합니다.
+     */
+    AUTHENTICATED(true),
+
+    /**
+     * 로그아웃된 Access Token 을 가진 요청입니다. 백엔드에 AUTH-ID 헤더가 전달되면 안 됩니다.
+     */
+    REVOKED(false),
+
+    /**
+     * Authorization 헤더가 없는 요청입니다.
+     */
+    ANONYMOUS(false);
+
+    private final boolean authenticatedUpstream;
+
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.marketgg.gateway.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+/**
+ * 게이트웨이 뒤의 백엔드 서비스를 흉내내는 HTTP 대역입니다.
+ *
+ * <p>모든 요청에 지정한 지연 시간 뒤 작은 JSON 으로 응답합니다.
+ * 게이트웨이가 붙인 {@code AUTH-ID} 헤더를 {@link #AUTH_ID_ECHO} 응답 헤더로 돌려주므로, 부하 생성기가 인증 결과를 확인할 수 있습니다.
+ */
+public class UpstreamStub implements AutoCloseable {
+
+    /**
+     * 요청의 AUTH-ID 헤더를 돌려주는 응답 헤더입니다. AUTH-ID 가 없던 요청에는 붙지 않습니다.
+     */
+    public static final String AUTH_ID_ECHO = "X-Stub-Auth-Id";
+
+    private static final byte[] BODY = "{\"header\":{\"isSuccessful\":true},\"data\":[]}"
+        .getBytes(StandardCharsets.UTF_8);
+
+    private final DisposableServer server;
+
+    /**
+     * 루프백 주소의 임의 포트에서 백엔드 대역을 시작합니다.
+     *
+     * @param latency - 응답 전에 기다릴 시간입니다. 0 이면 바로 응답합니다.
+     */
+    public UpstreamStub(Duration latency) {
+        Mono<byte[]> body = latency.isZero() ? Mono.just(BODY) : Mono.delay(latency).thenReturn(BODY);
+
+        this.server = HttpServer.create()
+                                .host("localhost")
+                                .port(0)
+                                .handle((request, response) -> {
+                                    String authId = request.requestHeaders().get("AUTH-ID");
+
+                                    if (Objects.nonNull(authId)) {
+                                        response.header(AUTH_ID_ECHO, authId);
+                                    }
+
+                                    return response.header(HttpHeaderNames.CONTENT_TYPE, "application/json")
+                                                   .sendByteArray(body);
+                                })
+                                .bindNow();
+    }
+
+    public String getUri() {
+        return "http://localhost:" + server.port();
+    }
+
+    @Override
+    public void close() {
+        server.disposeNow();
+    }
+
+}
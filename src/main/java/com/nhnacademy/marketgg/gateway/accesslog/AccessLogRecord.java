@@ -0,0 +1,39 @@
+package com.nhnacademy.marketgg.gateway.accesslog;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 하나의 요청/응답에 대한 접근 로그 레코드입니다.
+ * 이벤트 루프에서는 값만 담고, 문자열 변환과 마스킹은 {@link AccessLogWriter} 의 백그라운드 스레드에서 수행합니다.
+ */
+@Getter
+@AllArgsConstructor
+public final class AccessLogRecord {
+
+    /**
+     * 요청을 받은 시각(epoch 밀리초)입니다.
+     */
+    private final long timestamp;
+
+    private final String method;
+
+    /**
+     * 쿼리 문자열을 포함한 요청 경로입니다.
+     */
+    private final String path;
+
+    /**
+     * 응답 상태 코드이며, 상태 코드 없이 끝난 요청(취소 등)은 0 입니다.
+     */
+    private final int status;
+
+    private final String route;
+
+    private final String authId;
+
+    private final String clientIp;
+
+    private final long durationNanos;
+
+}
@@ -0,0 +1,90 @@
+package com.nhnacademy.marketgg.gateway.accesslog;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 여러 이벤트 루프 스레드가 쓰고 하나의 writer 스레드가 읽는 고정 크기 링 버퍼입니다.
+ * 생산자는 CAS 로 슬롯을 예약하므로 잠금이 없으며, 버퍼가 가득 차면 기다리지 않고 실패를 반환합니다.
+ */
+class AccessLogRingBuffer {
+
+    private final AtomicReferenceArray<AccessLogRecord> slots;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * 생성자입니다.
+     *
+     * @param capacity - 최소 용량이며, 2 의 거듭제곱으로 올림됩니다.
+     */
+    AccessLogRingBuffer(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+
+        this.slots = new AtomicReferenceArray<>(size);
+        this.capacity = size;
+        this.mask = size - 1;
+    }
+
+    /**
+     * 레코드를 추가합니다.
+     *
+     * @param logRecord - 추가할 레코드입니다.
+     * @return 버퍼가 가득 차 추가하지 못하면 false 를 반환합니다.
+     */
+    boolean offer(AccessLogRecord logRecord) {
+        long sequence;
+
+        do {
+            sequence = tail.get();
+
+            if (sequence - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+
+        slots.lazySet((int) sequence & mask, logRecord);
+
+        return true;
+    }
+
+    /**
+     * 쌓인 레코드를 꺼냅니다. writer 스레드 하나에서만 호출해야 합니다.
+     *
+     * @param out      - 꺼낸 레코드를 담을 목록입니다.
+     * @param maxCount - 한 번에 꺼낼 최대 레코드 수입니다.
+     * @return 꺼낸 레코드 수를 반환합니다.
+     */
+    int drain(List<AccessLogRecord> out, int maxCount) {
+        long sequence = head.get();
+        int count = 0;
+
+        while (count < maxCount) {
+            int index = (int) sequence & mask;
+            AccessLogRecord logRecord = slots.get(index);
+
+            if (Objects.isNull(logRecord)) {
+                break;
+            }
+
+            slots.lazySet(index, null);
+            out.add(logRecord);
+            sequence++;
+            count++;
+        }
+
+        head.lazySet(sequence);
+
+        return count;
+    }
+
+    int size() {
+        return (int) (tail.get() - head.get());
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.nhnacademy.marketgg.gateway.accesslog;
+
+import com.nhnacademy.marketgg.gateway.util.TokenHashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 접근 로그 레코드를 링 버퍼에 모았다가 백그라운드 스레드에서 묶음 단위로 꺼내 기록합니다.
+ * 이벤트 루프 스레드는 레코드를 버퍼에 넣기만 하며, 버퍼가 가득 차면 레코드를 버리고 {@code gg.access-log.dropped} 를 올립니다.
+ *
+ * <p>레코드는 {@code gg.access-log} 로거에 요청 하나당 한 이벤트로 기록되므로, 로그 수집기가 줄 단위로 나눌 필요가 없습니다.
+ * {@code redact-params} 에 지정된 쿼리 파라미터 값은 {@code ***} 로 가려지고,
+ * {@code hash-auth-id} 를 켜면 AUTH-ID 대신 그 SHA-256 해시 앞 12 자를 기록합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gg.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogWriter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("gg.access-log");
+    private static final String REDACTED = "***";
+    private static final int HASHED_AUTH_ID_LENGTH = 12;
+
+    private final AccessLogRingBuffer buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final Set<String> redactParams;
+    private final boolean hashAuthId;
+    private final Counter dropped;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param capacity      - 링 버퍼의 용량입니다.
+     * @param batchSize     - 한 번에 기록하는 최대 레코드 수입니다.
+     * @param flushInterval - 버퍼가 비었을 때 다음 기록까지 기다리는 시간입니다.
+     * @param redactParams  - 값을 가릴 쿼리 파라미터 이름입니다.
+     * @param hashAuthId    - AUTH-ID 를 해시로 기록할지 여부입니다.
+     * @param meterRegistry - 버려진 레코드 수와 버퍼 크기를 기록할 MeterRegistry 입니다.
+     */
+    public AccessLogWriter(@Value("${gg.access-log.capacity:8192}") int capacity,
+                           @Value("${gg.access-log.batch-size:256}") int batchSize,
+                           @Value("${gg.access-log.flush-interval:200ms}") Duration flushInterval,
+                           @Value("${gg.access-log.redact-params:token,access_token,refresh_token,password}")
+                           Set<String> redactParams,
+                           @Value("${gg.access-log.hash-auth-id:false}") boolean hashAuthId,
+                           MeterRegistry meterRegistry) {
+
+        this.buffer = new AccessLogRingBuffer(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = flushInterval.toNanos();
+        this.redactParams = Set.copyOf(redactParams);
+        this.hashAuthId = hashAuthId;
+        this.dropped = Counter.builder("gg.access-log.dropped")
+                              .description("버퍼가 가득 차 버려진 접근 로그 수")
+                              .register(meterRegistry);
+
+        Gauge.builder("gg.access-log.pending", buffer, AccessLogRingBuffer::size)
+             .description("기록을 기다리는 접근 로그 수")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 레코드를 버퍼에 넣습니다. 버퍼가 가득 차면 레코드를 버립니다.
+     *
+     * @param logRecord - 접근 로그 레코드입니다.
+     */
+    public void offer(AccessLogRecord logRecord) {
+        if (!buffer.offer(logRecord)) {
+            dropped.increment();
+        }
+    }
+
+    /**
+     * writer 스레드를 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        this.running = true;
+        this.writer = new Thread(this::run, "gg-access-log");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * writer 스레드를 멈추고 남은 레코드를 기록합니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        this.running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void run() {
+        List<AccessLogRecord> batch = new ArrayList<>(batchSize);
+        StringBuilder line = new StringBuilder(256);
+
+        while (running) {
+            if (this.flush(batch, line) == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+        }
+
+        int remaining;
+        do {
+            remaining = this.flush(batch, line);
+        } while (remaining > 0);
+    }
+
+    private int flush(List<AccessLogRecord> batch, StringBuilder line) {
+        int count = buffer.drain(batch, batchSize);
+
+        if (count == 0 || !ACCESS_LOG.isInfoEnabled()) {
+            batch.clear();
+            return count;
+        }
+
+        for (AccessLogRecord logRecord : batch) {
+            try {
+                this.format(logRecord, line);
+                ACCESS_LOG.info("{}", line.toString());
+            } catch (RuntimeException ex) {
+                log.warn("접근 로그 기록에 실패했습니다. {}", ex.toString());
+            } finally {
+                line.setLength(0);
+            }
+        }
+        batch.clear();
+
+        return count;
+    }
+
+    private void format(AccessLogRecord logRecord, StringBuilder out) {
+        out.append("ts=").append(Instant.ofEpochMilli(logRecord.getTimestamp()))
+           .append(" method=").append(logRecord.getMethod())
+           .append(" path=").append(this.redact(logRecord.getPath()))
+           .append(" status=").append(logRecord.getStatus())
+           .append(" route=").append(logRecord.getRoute())
+           .append(" duration_us=").append(TimeUnit.NANOSECONDS.toMicros(logRecord.getDurationNanos()))
+           .append(" auth_id=").append(this.authId(logRecord.getAuthId()))
+           .append(" client_ip=").append(logRecord.getClientIp());
+    }
+
+    private String authId(String authId) {
+        if (!hashAuthId || Objects.isNull(authId)) {
+            return authId;
+        }
+
+        return TokenHashUtils.hash(authId).substring(0, HASHED_AUTH_ID_LENGTH);
+    }
+
+    private String redact(String path) {
+        int queryStart = path.indexOf('?');
+
+        if (queryStart < 0 || redactParams.isEmpty()) {
+            return path;
+        }
+
+        StringBuilder redacted = new StringBuilder(path.length()).append(path, 0, queryStart + 1);
+        String[] params = path.substring(queryStart + 1).split("&");
+
+        for (int i = 0; i < params.length; i++) {
+            if (i > 0) {
+                redacted.append('&');
+            }
+
+            int equals = params[i].indexOf('=');
+            String name = equals < 0 ? params[i] : params[i].substring(0, equals);
+
+            if (equals >= 0 && redactParams.contains(name)) {
+                redacted.append(name).append('=').append(REDACTED);
+            } else {
+                redacted.append(params[i]);
+            }
+        }
+
+        return redacted.toString();
+    }
+
+}
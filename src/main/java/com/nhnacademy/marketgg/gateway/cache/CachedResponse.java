@@ -0,0 +1,125 @@
+package com.nhnacademy.marketgg.gateway.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.http.HttpHeaders;
+
+/**
+ * 캐시에 저장된 응답입니다. 상태 코드, 재사용에 필요한 일부 헤더, 본문을 담습니다.
+ * Redis 에는 JSON 이 아닌 {@link #toBytes()} 의 바이너리 형식으로 저장합니다.
+ */
+@Getter
+@AllArgsConstructor
+public final class CachedResponse {
+
+    /**
+     * 다른 요청에 다시 보내도 되는 응답 헤더입니다. 본문을 설명하는 헤더만 담으며,
+     * CORS, Set-Cookie, X-Gateway-Cache 처럼 요청마다 달라지는 헤더는 담지 않습니다.
+     */
+    public static final List<String> STORED_HEADERS = List.of(HttpHeaders.CONTENT_TYPE,
+                                                              HttpHeaders.CONTENT_ENCODING,
+                                                              HttpHeaders.CONTENT_LANGUAGE,
+                                                              HttpHeaders.CACHE_CONTROL,
+                                                              HttpHeaders.ETAG,
+                                                              HttpHeaders.LAST_MODIFIED,
+                                                              HttpHeaders.VARY);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final int status;
+
+    /**
+     * Content-Type, ETag 등 재사용할 응답 헤더입니다.
+     */
+    private final Map<String, String> headers;
+
+    private final byte[] body;
+
+    /**
+     * 저장한 시각(epoch 밀리초)이며 Age 헤더 계산에 쓰입니다.
+     */
+    private final long storedAt;
+
+    /**
+     * 만료 시각(epoch 밀리초)입니다.
+     */
+    private final long expiresAt;
+
+    public boolean isExpired(long now) {
+        return now >= expiresAt;
+    }
+
+    public String getETag() {
+        return headers.get("ETag");
+    }
+
+    /**
+     * 바이너리 형식으로 직렬화합니다.
+     *
+     * @return 직렬화된 바이트 배열
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(body.length + 256);
+
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(FORMAT_VERSION);
+            out.writeShort(status);
+            out.writeLong(storedAt);
+            out.writeLong(expiresAt);
+            out.writeByte(headers.size());
+
+            for (Map.Entry<String, String> header : headers.entrySet()) {
+                out.writeUTF(header.getKey());
+                out.writeUTF(header.getValue());
+            }
+
+            out.writeInt(body.length);
+            out.write(body);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * {@link #toBytes()} 로 직렬화한 응답을 복원합니다.
+     *
+     * @param bytes - 직렬화된 바이트 배열입니다.
+     * @return CachedResponse
+     */
+    public static CachedResponse fromBytes(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            if (in.readUnsignedByte() != FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 캐시 형식입니다.");
+            }
+
+            int status = in.readUnsignedShort();
+            long storedAt = in.readLong();
+            long expiresAt = in.readLong();
+            int headerCount = in.readUnsignedByte();
+            Map<String, String> headers = new LinkedHashMap<>(headerCount * 2);
+
+            for (int i = 0; i < headerCount; i++) {
+                headers.put(in.readUTF(), in.readUTF());
+            }
+
+            byte[] body = new byte[in.readInt()];
+            in.readFully(body);
+
+            return new CachedResponse(status, headers, body, storedAt, expiresAt);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+}
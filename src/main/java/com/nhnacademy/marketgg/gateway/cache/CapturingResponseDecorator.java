@@ -0,0 +1,126 @@
+package com.nhnacademy.marketgg.gateway.cache;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.function.Consumer;
+import org.reactivestreams.Publisher;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 클라이언트로 흘려보내는 응답 본문을 그대로 복사해 두는 응답 데코레이터입니다.
+ * 본문을 모아서 보내지 않으므로 클라이언트 응답은 지연되지 않으며, 각 청크는 한 번만 복사됩니다.
+ * Content-Length 가 있으면 그 크기로 한 번만 할당합니다.
+ *
+ * <p>본문이 {@code maxBodySize} 를 넘거나, 오류나 취소로 끝나거나, 스트리밍(writeAndFlushWith) 응답이면 복사를 포기하고
+ * {@code onAbandoned} 를 호출합니다. 끝까지 복사하면 본문으로 {@code onCaptured} 를 호출합니다. 둘 중 하나만 한 번 호출됩니다.
+ */
+public class CapturingResponseDecorator extends ServerHttpResponseDecorator {
+
+    private static final int INITIAL_CAPACITY = 8 * 1024;
+    private static final byte[] EMPTY = new byte[0];
+
+    private final int maxBodySize;
+    private final Consumer<byte[]> onCaptured;
+    private final Runnable onAbandoned;
+
+    private byte[] body = EMPTY;
+    private int size;
+    private boolean done;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param delegate    - 원래 응답입니다.
+     * @param maxBodySize - 복사할 최대 본문 크기(바이트)입니다.
+     * @param onCaptured  - 본문을 끝까지 복사했을 때 호출됩니다.
+     * @param onAbandoned - 복사를 포기했을 때 호출됩니다.
+     */
+    public CapturingResponseDecorator(ServerHttpResponse delegate, int maxBodySize,
+                                      Consumer<byte[]> onCaptured, Runnable onAbandoned) {
+
+        super(delegate);
+        this.maxBodySize = maxBodySize;
+        this.onCaptured = onCaptured;
+        this.onAbandoned = onAbandoned;
+    }
+
+    @Override
+    public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+        long contentLength = getHeaders().getContentLength();
+
+        if (contentLength > maxBodySize) {
+            this.abandon();
+            return super.writeWith(body);
+        }
+
+        this.body = new byte[contentLength >= 0 ? (int) contentLength : Math.min(INITIAL_CAPACITY, maxBodySize)];
+
+        Flux<? extends DataBuffer> capturing = Flux.from(body)
+                                                   .doOnNext(this::capture)
+                                                   .doOnComplete(this::complete)
+                                                   .doOnError(ex -> this.abandon())
+                                                   .doOnCancel(this::abandon);
+
+        return super.writeWith(capturing);
+    }
+
+    @Override
+    public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+        this.abandon();
+
+        return super.writeAndFlushWith(body);
+    }
+
+    @Override
+    public Mono<Void> setComplete() {
+        this.complete();
+
+        return super.setComplete();
+    }
+
+    private void capture(DataBuffer buffer) {
+        if (done) {
+            return;
+        }
+
+        int length = buffer.readableByteCount();
+
+        if (size + length > maxBodySize) {
+            this.abandon();
+            return;
+        }
+
+        if (size + length > body.length) {
+            body = Arrays.copyOf(body, Math.min(maxBodySize, Math.max(size + length, body.length * 2)));
+        }
+
+        ByteBuffer readable = buffer.asByteBuffer();
+        readable.get(body, size, length);
+        size += length;
+    }
+
+    private void complete() {
+        if (done) {
+            return;
+        }
+
+        done = true;
+        onCaptured.accept(size == body.length ? body : Arrays.copyOf(body, size));
+        body = EMPTY;
+    }
+
+    private void abandon() {
+        if (done) {
+            return;
+        }
+
+        done = true;
+        body = EMPTY;
+        onAbandoned.run();
+    }
+
+}
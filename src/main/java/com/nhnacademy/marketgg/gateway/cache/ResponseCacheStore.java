@@ -0,0 +1,145 @@
+package com.nhnacademy.marketgg.gateway.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Mono;
+
+/**
+ * 응답 캐시의 두 계층(프로세스 내 Caffeine, 노드 간 공유 Redis)을 묶은 저장소입니다.
+ * 로컬 계층은 본문 크기의 합으로 제한되며, Redis 계층에서 찾은 응답은 로컬 계층에도 채워집니다.
+ * Redis 조회가 실패하거나 {@code redis-timeout} 안에 응답하지 않으면 캐시 미스로 처리합니다.
+ */
+@Slf4j
+@Component
+public class ResponseCacheStore {
+
+    private static final String CACHE_NAME = "gg.response-cache";
+    private static final int ENTRY_OVERHEAD = 256;
+
+    private final Cache<String, CachedResponse> local;
+    private final ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate;
+    private final boolean redisEnabled;
+    private final Duration redisTimeout;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param binaryRedisTemplate - 스프링 빈에 등록된 바이트 ReactiveRedisTemplate 을 주입받습니다.
+     * @param localMaximumSize    - 로컬 계층에 보관할 응답의 최대 총 크기입니다.
+     * @param redisEnabled        - Redis 계층을 사용할지 여부입니다.
+     * @param redisTimeout        - Redis 계층 조회 제한 시간입니다.
+     * @param meterRegistry       - 로컬 계층의 적중/실패 횟수를 기록할 MeterRegistry 입니다.
+     */
+    public ResponseCacheStore(ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                              @Value("${gg.response-cache.local.maximum-size:64MB}") DataSize localMaximumSize,
+                              @Value("${gg.response-cache.redis.enabled:true}") boolean redisEnabled,
+                              @Value("${gg.response-cache.redis.timeout:50ms}") Duration redisTimeout,
+                              MeterRegistry meterRegistry) {
+
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.redisTimeout = redisTimeout;
+        this.local = Caffeine.newBuilder()
+                             .maximumWeight(localMaximumSize.toBytes())
+                             .weigher((String key, CachedResponse value) -> value.getBody().length + ENTRY_OVERHEAD)
+                             .expireAfter(new ResponseExpiry())
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, local, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 응답을 찾습니다. 로컬 계층을 먼저 보고, 없으면 Redis 계층을 조회합니다.
+     *
+     * @param key - 요청 키입니다.
+     * @return 만료되지 않은 응답이 있으면 방출하고, 없으면 비어있는 Mono 를 반환합니다.
+     */
+    public Mono<CachedResponse> get(String key) {
+        CachedResponse cached = local.getIfPresent(key);
+
+        if (Objects.nonNull(cached)) {
+            return Mono.just(cached);
+        }
+
+        if (!redisEnabled) {
+            return Mono.empty();
+        }
+
+        return binaryRedisTemplate.opsForValue()
+                                  .get(key.getBytes(StandardCharsets.US_ASCII))
+                                  .timeout(redisTimeout)
+                                  .map(CachedResponse::fromBytes)
+                                  .filter(response -> !response.isExpired(System.currentTimeMillis()))
+                                  .doOnNext(response -> local.put(key, response))
+                                  .onErrorResume(ex -> {
+                                      log.debug("응답 캐시 조회에 실패했습니다. {}", ex.toString());
+                                      return Mono.empty();
+                                  });
+    }
+
+    /**
+     * 응답을 두 계층에 저장합니다. Redis 저장은 기다리지 않습니다.
+     *
+     * @param key      - 요청 키입니다.
+     * @param response - 저장할 응답입니다.
+     */
+    public void put(String key, CachedResponse response) {
+        local.put(key, response);
+
+        if (!redisEnabled) {
+            return;
+        }
+
+        Duration ttl = Duration.ofMillis(response.getExpiresAt() - System.currentTimeMillis());
+
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        binaryRedisTemplate.opsForValue()
+                           .set(key.getBytes(StandardCharsets.US_ASCII), response.toBytes(), ttl)
+                           .subscribe(null, ex -> log.warn("응답 캐시 저장에 실패했습니다. {}", ex.toString()));
+    }
+
+    /**
+     * 로컬 계층 항목의 유효 시간을 응답의 만료 시각에 맞춥니다.
+     */
+    private static class ResponseExpiry implements Expiry<String, CachedResponse> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedResponse value, long currentTime) {
+            long remainingMillis = value.getExpiresAt() - System.currentTimeMillis();
+
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedResponse value, long currentTime,
+                                      long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedResponse value, long currentTime,
+                                    long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
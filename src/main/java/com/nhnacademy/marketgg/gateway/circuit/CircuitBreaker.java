@@ -0,0 +1,166 @@
+package com.nhnacademy.marketgg.gateway.circuit;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 하나의 라우트에 대한 서킷 브레이커입니다.
+ *
+ * <ul>
+ *     <li>CLOSED: 모든 요청을 보냅니다. {@code window-size} 건마다 실패율을 계산하며, {@code minimum-calls} 이상에서
+ *     실패율이 {@code failure-rate-threshold} 이상이 되면 OPEN 으로 전환합니다.</li>
+ *     <li>OPEN: {@code open-duration} 동안 모든 요청을 즉시 거절합니다. 시간이 지나면 HALF_OPEN 으로 전환합니다.</li>
+ *     <li>HALF_OPEN: {@code half-open-probes} 건만 보내 봅니다. 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN 으로 전환합니다.</li>
+ * </ul>
+ */
+public class CircuitBreaker {
+
+    /**
+     * 서킷 브레이커의 상태입니다.
+     */
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final int windowSize;
+    private final long openNanos;
+    private final int halfOpenProbes;
+
+    private final AtomicInteger probes = new AtomicInteger();
+
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+
+    private int calls;
+    private int failures;
+    private int probeSuccesses;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param failureRateThreshold - OPEN 으로 전환하는 실패율(0.0 ~ 1.0)입니다.
+     * @param minimumCalls         - 실패율을 계산하기 위한 최소 요청 수입니다.
+     * @param windowSize           - 실패율을 계산하는 요청 수 단위입니다.
+     * @param openDuration         - OPEN 상태를 유지하는 시간입니다.
+     * @param halfOpenProbes       - HALF_OPEN 상태에서 보내 볼 요청 수입니다.
+     */
+    public CircuitBreaker(double failureRateThreshold, int minimumCalls, int windowSize, Duration openDuration,
+                          int halfOpenProbes) {
+
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.windowSize = Math.max(windowSize, minimumCalls);
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenProbes = halfOpenProbes;
+    }
+
+    /**
+     * 요청을 보낼 수 있는지 확인합니다.
+     * 보낼 수 있으면 요청이 끝날 때 반환된 상태로 {@link #onResult(State, boolean)} 또는 {@link #onIgnored(State)} 를 호출해야 합니다.
+     *
+     * @return 요청을 보낸 시점의 상태를 반환하며, 거절되면 null 을 반환합니다.
+     */
+    public State tryAcquire() {
+        State current = this.state;
+
+        if (current == State.CLOSED) {
+            return State.CLOSED;
+        }
+
+        if (current == State.OPEN) {
+            if (System.nanoTime() - openedAt < openNanos) {
+                return null;
+            }
+
+            synchronized (this) {
+                if (this.state == State.OPEN && System.nanoTime() - openedAt >= openNanos) {
+                    this.transition(State.HALF_OPEN);
+                }
+            }
+        }
+
+        if (probes.incrementAndGet() <= halfOpenProbes) {
+            return State.HALF_OPEN;
+        }
+
+        probes.decrementAndGet();
+
+        return null;
+    }
+
+    /**
+     * 요청 결과를 반영합니다.
+     *
+     * @param acquiredIn - {@link #tryAcquire()} 가 반환한 상태입니다.
+     * @param success    - 백엔드가 정상 응답했으면 true 입니다.
+     */
+    public synchronized void onResult(State acquiredIn, boolean success) {
+        if (acquiredIn != state) {
+            return;
+        }
+
+        if (acquiredIn == State.HALF_OPEN) {
+            if (!success) {
+                this.transition(State.OPEN);
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                this.transition(State.CLOSED);
+            }
+            return;
+        }
+
+        calls++;
+        if (!success) {
+            failures++;
+        }
+
+        if (calls >= minimumCalls && failures >= calls * failureRateThreshold) {
+            this.transition(State.OPEN);
+        } else if (calls >= windowSize) {
+            calls = 0;
+            failures = 0;
+        }
+    }
+
+    /**
+     * 결과를 반영하지 않고 요청을 마칩니다. 클라이언트가 취소한 요청 등에 쓰입니다.
+     *
+     * @param acquiredIn - {@link #tryAcquire()} 가 반환한 상태입니다.
+     */
+    public synchronized void onIgnored(State acquiredIn) {
+        if (acquiredIn == State.HALF_OPEN && state == State.HALF_OPEN) {
+            probes.decrementAndGet();
+        }
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * OPEN 상태가 끝나기까지 남은 시간을 초 단위로 반환합니다.
+     *
+     * @return 남은 시간(초)이며 최소 1 입니다.
+     */
+    public long getRemainingOpenSeconds() {
+        long remaining = openNanos - (System.nanoTime() - openedAt);
+
+        return Math.max(1L, TimeUnit.NANOSECONDS.toSeconds(remaining));
+    }
+
+    private void transition(State next) {
+        calls = 0;
+        failures = 0;
+        probeSuccesses = 0;
+        probes.set(0);
+
+        if (next == State.OPEN) {
+            openedAt = System.nanoTime();
+        }
+
+        this.state = next;
+    }
+
+}
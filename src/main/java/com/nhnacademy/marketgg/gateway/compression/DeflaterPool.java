@@ -0,0 +1,54 @@
+package com.nhnacademy.marketgg.gateway.compression;
+
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * 압축 수준이 같은 Deflater 를 재사용하는 풀입니다.
+ * Deflater 는 생성할 때마다 zlib 네이티브 메모리를 할당하므로, 응답마다 만들지 않고 돌려받아 reset 후 다시 씁니다.
+ * 보관할 수 있는 수보다 많이 반납되면 남는 Deflater 는 바로 해제합니다.
+ */
+public class DeflaterPool {
+
+    private final int level;
+    private final BlockingQueue<Deflater> idle;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param level   - 압축 수준(1~9)입니다.
+     * @param maxIdle - 보관할 최대 Deflater 수입니다.
+     */
+    public DeflaterPool(int level, int maxIdle) {
+        this.level = level;
+        this.idle = new ArrayBlockingQueue<>(maxIdle);
+    }
+
+    /**
+     * Deflater 를 빌립니다. 보관된 것이 없으면 새로 만듭니다.
+     * gzip 헤더와 트레일러는 {@link GzipEncoder} 가 직접 쓰므로 zlib 래퍼가 없는(nowrap) Deflater 입니다.
+     *
+     * @return Deflater
+     */
+    public Deflater borrow() {
+        Deflater deflater = idle.poll();
+
+        return Objects.nonNull(deflater) ? deflater : new Deflater(level, true);
+    }
+
+    /**
+     * 다 쓴 Deflater 를 반납합니다.
+     *
+     * @param deflater - 반납할 Deflater 입니다.
+     */
+    public void release(Deflater deflater) {
+        deflater.reset();
+
+        if (!idle.offer(deflater)) {
+            deflater.end();
+        }
+    }
+
+}
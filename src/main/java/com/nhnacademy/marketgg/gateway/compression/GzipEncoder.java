@@ -0,0 +1,163 @@
+package com.nhnacademy.marketgg.gateway.compression;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import lombok.Getter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+
+/**
+ * 응답 본문 청크를 받는 대로 gzip 으로 압축하는 스트리밍 인코더입니다. 응답 하나에 하나씩 만듭니다.
+ *
+ * <p>청크마다 SYNC_FLUSH 로 압축하므로 본문 전체를 모으지 않고 청크 단위로 클라이언트에 흘려보냅니다.
+ * 첫 출력에 gzip 헤더를, {@link #finish()} 에서 CRC32 와 원본 크기 트레일러를 붙입니다.
+ * 응답이 취소되면 다른 스레드에서 {@link #release()} 가 불릴 수 있으므로 모든 메서드는 동기화되어 있으며,
+ * 반납한 뒤에 들어온 청크는 버립니다.
+ *
+ * <p>압축에 쓴 CPU 시간은 스레드 CPU 시간으로 재며, JVM 이 지원하지 않으면 경과 시간으로 잽니다.
+ */
+public class GzipEncoder {
+
+    private static final byte[] HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int TRAILER_LENGTH = 8;
+    private static final int SCRATCH_SIZE = 8 * 1024;
+    private static final ThreadMXBean THREADS = ManagementFactory.getThreadMXBean();
+    private static final boolean THREAD_CPU_TIME =
+        THREADS.isCurrentThreadCpuTimeSupported() && THREADS.isThreadCpuTimeEnabled();
+
+    private final DeflaterPool pool;
+    private final DataBufferFactory bufferFactory;
+    private final Deflater deflater;
+    private final CRC32 crc = new CRC32();
+    private final byte[] scratch = new byte[SCRATCH_SIZE];
+
+    private boolean headerWritten;
+    private boolean released;
+
+    @Getter
+    private long inputBytes;
+
+    @Getter
+    private long outputBytes;
+
+    @Getter
+    private long cpuNanos;
+
+    /**
+     * 생성자입니다. 풀에서 Deflater 를 하나 빌리며, 다 쓰면 {@link #release()} 로 반납해야 합니다.
+     *
+     * @param pool          - Deflater 풀입니다.
+     * @param bufferFactory - 출력 버퍼를 만들 DataBufferFactory 입니다.
+     */
+    public GzipEncoder(DeflaterPool pool, DataBufferFactory bufferFactory) {
+        this.pool = pool;
+        this.bufferFactory = bufferFactory;
+        this.deflater = pool.borrow();
+    }
+
+    /**
+     * 청크 하나를 압축합니다. 입력 버퍼는 해제됩니다.
+     *
+     * @param input - 원본 청크입니다.
+     * @return 압축된 청크
+     */
+    public synchronized DataBuffer encode(DataBuffer input) {
+        try {
+            if (released) {
+                return bufferFactory.allocateBuffer(0);
+            }
+
+            long start = cpuTime();
+            ByteBuffer readable = input.asByteBuffer();
+            int length = readable.remaining();
+            DataBuffer output = bufferFactory.allocateBuffer(length / 2 + HEADER.length);
+
+            this.writeHeader(output);
+            crc.update(readable.duplicate());
+            deflater.setInput(readable);
+            inputBytes += length;
+
+            int written;
+            do {
+                written = deflater.deflate(scratch, 0, scratch.length, Deflater.SYNC_FLUSH);
+                this.write(output, scratch, written);
+            } while (written == scratch.length);
+
+            cpuNanos += cpuTime() - start;
+
+            return output;
+        } finally {
+            DataBufferUtils.release(input);
+        }
+    }
+
+    /**
+     * 남은 압축 데이터와 gzip 트레일러를 출력합니다.
+     *
+     * @return 마지막 청크
+     */
+    public synchronized DataBuffer finish() {
+        DataBuffer output = bufferFactory.allocateBuffer(HEADER.length + TRAILER_LENGTH + 2);
+
+        if (released) {
+            return output;
+        }
+
+        long start = cpuTime();
+
+        this.writeHeader(output);
+        deflater.finish();
+        while (!deflater.finished()) {
+            this.write(output, scratch, deflater.deflate(scratch));
+        }
+
+        long value = crc.getValue();
+        long size = inputBytes;
+        byte[] trailer = {
+            (byte) value, (byte) (value >>> 8), (byte) (value >>> 16), (byte) (value >>> 24),
+            (byte) size, (byte) (size >>> 8), (byte) (size >>> 16), (byte) (size >>> 24)
+        };
+        this.write(output, trailer, TRAILER_LENGTH);
+
+        cpuNanos += cpuTime() - start;
+
+        return output;
+    }
+
+    /**
+     * Deflater 를 풀에 반납합니다. 여러 번 불려도 한 번만 반납합니다.
+     */
+    public synchronized void release() {
+        if (released) {
+            return;
+        }
+
+        released = true;
+        pool.release(deflater);
+    }
+
+    private void writeHeader(DataBuffer output) {
+        if (headerWritten) {
+            return;
+        }
+
+        headerWritten = true;
+        this.write(output, HEADER, HEADER.length);
+    }
+
+    private void write(DataBuffer output, byte[] bytes, int length) {
+        if (length > 0) {
+            output.write(bytes, 0, length);
+            outputBytes += length;
+        }
+    }
+
+    private static long cpuTime() {
+        return THREAD_CPU_TIME ? THREADS.getCurrentThreadCpuTime() : System.nanoTime();
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.nhnacademy.marketgg.gateway.concurrency;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 관측한 백엔드 지연 시간으로 동시 요청 한도를 조절하는 gradient 방식의 리미터입니다.
+ *
+ * <p>긴 구간의 평균 지연 시간(longRtt)을 부하가 없을 때의 기준으로 삼고, 최근 지연 시간(shortRtt)과 비교한 비율
+ * {@code gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)} 로 한도를 줄입니다.
+ * 지연이 늘지 않으면 {@code sqrt(limit)} 만큼 여유를 더해 한도를 늘리고, 실패(시간 초과, 5xx)는 한도를 10% 줄입니다.
+ * 변경은 {@code smoothing} 비율만큼만 반영하여 한도가 급격히 흔들리지 않게 합니다.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longWindowFactor;
+    private final double shortWindowFactor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private volatile double limit;
+    private double longRtt;
+    private double shortRtt;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param initialLimit - 최초 한도입니다.
+     * @param minLimit     - 최소 한도입니다.
+     * @param maxLimit     - 최대 한도입니다.
+     * @param tolerance    - 기준 지연 시간 대비 허용하는 지연 시간 배율입니다.
+     * @param smoothing    - 새 한도를 반영하는 비율(0.0 ~ 1.0)입니다.
+     * @param longWindow   - 기준 지연 시간을 계산하는 표본 수입니다.
+     * @param shortWindow  - 최근 지연 시간을 계산하는 표본 수입니다.
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance,
+                                      double smoothing, int longWindow, int shortWindow) {
+
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.tolerance = tolerance;
+        this.smoothing = smoothing;
+        this.longWindowFactor = 2.0 / (longWindow + 1);
+        this.shortWindowFactor = 2.0 / (shortWindow + 1);
+    }
+
+    /**
+     * 요청을 받을 수 있으면 진행 중인 요청 수를 늘립니다.
+     * 받았으면 요청이 끝날 때 반드시 {@link #onSuccess(long)}, {@link #onDropped()}, {@link #onIgnored()} 중 하나를 호출해야 합니다.
+     *
+     * @param priority - 요청의 우선순위입니다.
+     * @return 받을 수 있으면 true
+     */
+    public boolean tryAcquire(RequestPriority priority) {
+        int current = inFlight.incrementAndGet();
+
+        if (current > Math.max(1, (int) (limit * priority.getShare()))) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * 정상 응답의 지연 시간을 반영합니다.
+     *
+     * @param rttNanos - 요청을 보낸 뒤 응답을 마칠 때까지의 시간입니다.
+     */
+    public void onSuccess(long rttNanos) {
+        int current = inFlight.getAndDecrement();
+
+        synchronized (this) {
+            if (longRtt == 0.0) {
+                longRtt = rttNanos;
+                shortRtt = rttNanos;
+                return;
+            }
+
+            shortRtt += shortWindowFactor * (rttNanos - shortRtt);
+            longRtt += longWindowFactor * (shortRtt - longRtt);
+
+            if (longRtt > shortRtt * 2) {
+                // 지연 시간이 크게 줄었으면 기준을 빠르게 따라 내려갑니다.
+                longRtt *= 0.95;
+            }
+
+            double currentLimit = this.limit;
+
+            if (current < currentLimit / 2) {
+                // 한도의 절반도 쓰지 않는 동안의 표본으로는 한도를 조절하지 않습니다.
+                return;
+            }
+
+            double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * longRtt / shortRtt));
+            double newLimit = currentLimit * gradient + Math.sqrt(currentLimit);
+
+            this.update(currentLimit * (1 - smoothing) + newLimit * smoothing);
+        }
+    }
+
+    /**
+     * 시간 초과나 과부하 응답을 반영하여 한도를 줄입니다.
+     */
+    public void onDropped() {
+        inFlight.decrementAndGet();
+
+        synchronized (this) {
+            this.update(limit * DROP_BACKOFF);
+        }
+    }
+
+    /**
+     * 지연 시간을 반영하지 않고 요청을 마칩니다. 클라이언트가 취소한 요청 등에 쓰입니다.
+     */
+    public void onIgnored() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    private void update(double newLimit) {
+        this.limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.nhnacademy.marketgg.gateway.concurrency;
+
+/**
+ * 동시성 한도를 넘었을 때 어떤 요청부터 거절할지 정하는 우선순위입니다.
+ * 각 우선순위는 한도 중 자신이 사용할 수 있는 비율을 가지며, 비율이 낮은 요청부터 거절됩니다.
+ */
+public enum RequestPriority {
+
+    /**
+     * 주문, 결제 등 마지막까지 받아야 하는 요청입니다.
+     */
+    CRITICAL(1.0),
+
+    /**
+     * 인증된 사용자의 일반 요청입니다.
+     */
+    NORMAL(0.9),
+
+    /**
+     * 인증되지 않은 요청입니다.
+     */
+    LOW(0.7);
+
+    private final double share;
+
+    RequestPriority(double share) {
+        this.share = share;
+    }
+
+    public double getShare() {
+        return share;
+    }
+
+}
@@ -1,72 +1,137 @@
 package com.nhnacademy.marketgg.gateway.config;
 
 import com.nhnacademy.marketgg.gateway.exception.SecureManagerException;
-import com.nhnacademy.marketgg.gateway.util.SecureUtils;
+import com.nhnacademy.marketgg.gateway.secret.GatewaySecrets;
+import com.nhnacademy.marketgg.gateway.secret.SecretBootstrap;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.ReadFrom;
+import io.lettuce.core.SocketOptions;
+import io.lettuce.core.TimeoutOptions;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.ClusterTopologyRefreshOptions;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
 import java.time.Duration;
-import java.util.Map;
-import java.util.Optional;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
-import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
-import org.springframework.http.client.reactive.ClientHttpConnector;
-import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * Redis 설정을 담당합니다.
+ *
+ * <p>Secure Manager 의 Redis 접속 정보는 다음 형식 중 하나입니다.
+ * <ul>
+ *     <li>단일 노드: {@code host:port:db}</li>
+ *     <li>Sentinel: {@code sentinel|master|host:port,host:port|db}</li>
+ *     <li>Cluster: {@code cluster|host:port,host:port}</li>
+ * </ul>
+ *
+ * <p>조회 명령은 {@code gg.redis.read-from} (기본값 replicaPreferred) 에 따라 레플리카로 보내고,
+ * 쓰기 명령과 Lua 스크립트는 항상 마스터로 보냅니다. 레플리카 조회는 복제 지연만큼 늦게 로그아웃을 반영할 수 있습니다.
  */
 @Slf4j
 @Configuration
 public class RedisConfig {
 
-    private static final int REDIS_DURATION_SECOND = 5;
+    private static final String SENTINEL = "sentinel";
+    private static final String CLUSTER = "cluster";
 
-    private final String host;
-    private final int port;
-    private final int database;
-    private final String password;
+    private final RedisConfiguration configuration;
+    private final Duration connectTimeout;
+    private final Duration commandTimeout;
+    private final boolean autoReconnect;
+    private final ReadFrom readFrom;
+    private final Duration clusterRefreshPeriod;
 
     /**
      * Redis 설정 클래스 생성자입니다.
      *
-     * @param redisInfoUrl     - 봉투 암호화된 Redis 정보 경로
-     * @param redisPasswordUrl - 봉투 암호화된 Redis 비밀번호 경로
-     * @param secureUtils      - 보안에 필요한 유틸리티 클래스
+     * @param secretBootstrap      - Secure Manager 에서 받아온 비밀 값을 제공합니다.
+     * @param connectTimeout       - Redis 연결 제한 시간입니다.
+     * @param commandTimeout       - Redis 명령 제한 시간입니다.
+     * @param autoReconnect        - 연결이 끊겼을 때 자동으로 다시 연결할지 여부입니다.
+     * @param readFrom             - 조회 명령을 보낼 노드입니다. (master, replicaPreferred, replica, nearest 등)
+     * @param clusterRefreshPeriod - Cluster 토폴로지를 주기적으로 갱신하는 간격입니다.
      */
-    public RedisConfig(final @Value("${gg.redis.url}") String redisInfoUrl,
-                       final @Value("${gg.redis.password-url}") String redisPasswordUrl,
-                       final SecureUtils secureUtils) {
-
-        ClientHttpConnector clientHttpConnector = secureUtils.getClientHttpConnector();
-        String[] info = this.getRedisInfo(redisInfoUrl, clientHttpConnector);
-        this.host = info[0];
-        this.port = Integer.parseInt(info[1]);
-        this.database = Integer.parseInt(info[2]);
-        this.password = this.getRedisPassword(redisPasswordUrl, clientHttpConnector);
+    public RedisConfig(final SecretBootstrap secretBootstrap,
+                       @Value("${gg.redis.connect-timeout:1s}") Duration connectTimeout,
+                       @Value("${gg.redis.command-timeout:500ms}") Duration commandTimeout,
+                       @Value("${gg.redis.auto-reconnect:true}") boolean autoReconnect,
+                       @Value("${gg.redis.read-from:replicaPreferred}") String readFrom,
+                       @Value("${gg.redis.cluster.refresh-period:30s}") Duration clusterRefreshPeriod) {
+
+        GatewaySecrets secrets = secretBootstrap.getSecrets();
+        this.configuration = parseRedisInfo(secrets.getRedisInfo(), secrets.getRedisPassword());
+        this.connectTimeout = connectTimeout;
+        this.commandTimeout = commandTimeout;
+        this.autoReconnect = autoReconnect;
+        this.readFrom = ReadFrom.valueOf(readFrom);
+        this.clusterRefreshPeriod = clusterRefreshPeriod;
+    }
+
+    /**
+     * 모든 Redis 연결이 공유하는 Lettuce 이벤트 루프와 연산 스레드를 스프링 빈으로 등록합니다.
+     *
+     * @param ioThreads          - I/O 스레드 수입니다. 0 이면 CPU 코어 수를 사용합니다.
+     * @param computationThreads - 연산 스레드 수입니다. 0 이면 CPU 코어 수를 사용합니다.
+     * @return ClientResources
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ClientResources lettuceClientResources(@Value("${gg.redis.io-threads:0}") int ioThreads,
+                                                  @Value("${gg.redis.computation-threads:0}")
+                                                  int computationThreads) {
+
+        DefaultClientResources.Builder builder = DefaultClientResources.builder();
+
+        if (ioThreads > 0) {
+            builder.ioThreadPoolSize(ioThreads);
+        }
+        if (computationThreads > 0) {
+            builder.computationThreadPoolSize(computationThreads);
+        }
+
+        return builder.build();
     }
 
     /**
      * Redis 연결과 관련된 설정을 하는 RedisConnectionFactory 를 스프링 빈으로 등록한다.
+     * ReactiveRedisConnectionFactory 도 함께 구현하며, {@link RedisSecretRefresher} 가 바뀐 접속 정보로 연결을 교체합니다.
      *
-     * @return RedisConnectionFactory
+     * @param clientResources - 스프링 빈으로 등록된 ClientResources
+     * @param retireDelay     - 교체된 이전 연결 팩토리를 닫기까지 기다리는 시간입니다.
+     * @return ReloadableRedisConnectionFactory
      */
     @Bean
-    public RedisConnectionFactory redisConnectionFactory() {
-        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration();
-
-        configuration.setHostName(host);
-        configuration.setPort(port);
-        configuration.setPassword(password);
-        configuration.setDatabase(database);
+    public ReloadableRedisConnectionFactory redisConnectionFactory(ClientResources clientResources,
+                                                                   @Value("${gg.redis.retire-delay:5s}")
+                                                                   Duration retireDelay) {
+        LettuceClientConfiguration clientConfiguration =
+            LettuceClientConfiguration.builder()
+                                      .clientResources(clientResources)
+                                      .clientOptions(this.clientOptions())
+                                      .commandTimeout(commandTimeout)
+                                      .readFrom(readFrom)
+                                      .build();
 
-        return new LettuceConnectionFactory(configuration);
+        return new ReloadableRedisConnectionFactory(configuration, clientConfiguration, retireDelay);
     }
 
     /**
@@ -88,54 +153,130 @@ public class RedisConfig {
         return redisTemplate;
     }
 
-    private String[] getRedisInfo(String infoUrl, ClientHttpConnector clientHttpConnector) {
-        Map<String, Map<String, String>> block
-            = WebClient.builder()
-                       .clientConnector(clientHttpConnector)
-                       .build()
-                       .get()
-                       .uri(infoUrl)
-                       .retrieve()
-                       .bodyToMono(
-                           new ParameterizedTypeReference<Map<String, Map<String, String>>>() {
-                           })
-                       .timeout(Duration.ofSeconds(
-                           REDIS_DURATION_SECOND))
-                       .block();
-
-        String connectInfo = Optional.ofNullable(block)
-                                     .orElseThrow(IllegalArgumentException::new)
-                                     .get("body")
-                                     .get("secret");
-
-        String[] info = connectInfo.split(":");
-
-        if (info.length != 3) {
-            throw new SecureManagerException();
+    /**
+     * 이벤트 루프를 블로킹하지 않는 ReactiveRedisTemplate 을 스프링 빈으로 등록합니다.
+     *
+     * @param reactiveRedisConnectionFactory - 스프링 빈으로 등록된 ReactiveRedisConnectionFactory
+     * @return ReactiveRedisTemplate
+     */
+    @Bean
+    public ReactiveRedisTemplate<String, String> reactiveRedisTemplate(
+        ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
+
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, RedisSerializationContext.string());
+    }
+
+    /**
+     * 키와 값을 직렬화 없이 바이트 그대로 주고받는 ReactiveRedisTemplate 을 스프링 빈으로 등록합니다.
+     * compact 형식의 로그아웃 토큰 조회에 쓰입니다.
+     *
+     * @param reactiveRedisConnectionFactory - 스프링 빈으로 등록된 ReactiveRedisConnectionFactory
+     * @return ReactiveRedisTemplate
+     */
+    @Bean
+    public ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate(
+        ReactiveRedisConnectionFactory reactiveRedisConnectionFactory) {
+
+        return new ReactiveRedisTemplate<>(reactiveRedisConnectionFactory, RedisSerializationContext.byteArray());
+    }
+
+    private ClientOptions clientOptions() {
+        SocketOptions socketOptions = SocketOptions.builder()
+                                                   .connectTimeout(connectTimeout)
+                                                   .keepAlive(true)
+                                                   .build();
+
+        if (configuration instanceof RedisClusterConfiguration) {
+            ClusterTopologyRefreshOptions refreshOptions =
+                ClusterTopologyRefreshOptions.builder()
+                                             .enablePeriodicRefresh(clusterRefreshPeriod)
+                                             .enableAllAdaptiveRefreshTriggers()
+                                             .build();
+
+            return ClusterClientOptions.builder()
+                                       .autoReconnect(autoReconnect)
+                                       .socketOptions(socketOptions)
+                                       .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                                       .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                                       .topologyRefreshOptions(refreshOptions)
+                                       .build();
+        }
+
+        return ClientOptions.builder()
+                            .autoReconnect(autoReconnect)
+                            .socketOptions(socketOptions)
+                            .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+                            .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+                            .build();
+    }
+
+    /**
+     * Secure Manager 의 Redis 접속 정보를 RedisConfiguration 으로 변환합니다.
+     *
+     * @param connectInfo - Redis 접속 정보입니다.
+     * @param password    - Redis 비밀번호입니다.
+     * @return 접속 정보 형식에 맞는 RedisConfiguration
+     */
+    static RedisConfiguration parseRedisInfo(String connectInfo, String password) {
+        String[] info = connectInfo.split("\\|");
+
+        try {
+            if (SENTINEL.equals(info[0]) && info.length == 4) {
+                RedisSentinelConfiguration sentinel = new RedisSentinelConfiguration();
+
+                sentinel.master(info[1]);
+                sentinel.setSentinels(parseNodes(info[2]));
+                sentinel.setDatabase(Integer.parseInt(info[3]));
+                sentinel.setPassword(RedisPassword.of(password));
+                log.info("Redis Sentinel 구성을 사용합니다. master: {}, sentinels: {}", info[1], info[2]);
+
+                return sentinel;
+            }
+
+            if (CLUSTER.equals(info[0]) && info.length == 2) {
+                RedisClusterConfiguration cluster = new RedisClusterConfiguration();
+
+                cluster.setClusterNodes(parseNodes(info[1]));
+                cluster.setPassword(RedisPassword.of(password));
+                log.info("Redis Cluster 구성을 사용합니다. nodes: {}", info[1]);
+
+                return cluster;
+            }
+
+            String[] node = connectInfo.split(":");
+
+            if (info.length != 1 || node.length != 3) {
+                throw new SecureManagerException();
+            }
+
+            RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration();
+
+            standalone.setHostName(node[0]);
+            standalone.setPort(Integer.parseInt(node[1]));
+            standalone.setDatabase(Integer.parseInt(node[2]));
+            standalone.setPassword(password);
+
+            return standalone;
+        } catch (IllegalArgumentException e) {
+            throw new SecureManagerException(e);
         }
+    }
 
-        return info;
+    private static List<RedisNode> parseNodes(String nodes) {
+        return Arrays.stream(nodes.split(","))
+                     .map(String::trim)
+                     .map(RedisConfig::parseNode)
+                     .collect(Collectors.toList());
     }
 
-    private String getRedisPassword(String passwordUrl, ClientHttpConnector clientHttpConnector) {
-        Map<String, Map<String, String>> block
-            = WebClient.builder()
-                       .clientConnector(clientHttpConnector)
-                       .build()
-                       .get()
-                       .uri(passwordUrl)
-                       .retrieve()
-                       .bodyToMono(
-                           new ParameterizedTypeReference<Map<String, Map<String, String>>>() {
-                           })
-                       .timeout(Duration.ofSeconds(
-                           REDIS_DURATION_SECOND))
-                       .block();
-
-        return Optional.ofNullable(block)
-                       .orElseThrow(IllegalArgumentException::new)
-                       .get("body")
-                       .get("secret");
+    private static RedisNode parseNode(String node) {
+        int separator = node.lastIndexOf(':');
+
+        if (separator <= 0 || separator == node.length() - 1) {
+            throw new SecureManagerException();
+        }
+
+        return new RedisNode(node.substring(0, separator), Integer.parseInt(node.substring(separator + 1)));
     }
 
 }
@@ -0,0 +1,139 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import com.nhnacademy.marketgg.gateway.exception.SecureManagerException;
+import com.nhnacademy.marketgg.gateway.secret.GatewaySecrets;
+import com.nhnacademy.marketgg.gateway.secret.SecretBootstrap;
+import java.util.Objects;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+
+/**
+ * 비밀 값 스냅샷으로 기동한 뒤 바뀐 Redis 접속 정보와 비밀번호를 재기동 없이 반영합니다.
+ *
+ * <p>비밀번호나 노드가 바뀌면 {@link ReloadableRedisConnectionFactory} 가 새 연결 팩토리를 만들어 교체합니다.
+ * 이전 팩토리는 진행 중인 명령이 끝난 뒤 닫히므로, 교체 중에도 Redis 를 쓰는 기능은 멈추지 않습니다.
+ * 단일 노드, Sentinel, Cluster 사이에서 구성 방식 자체가 바뀐 경우는 클라이언트 옵션이 달라지므로
+ * 반영하지 않고 재기동이 필요하다는 경고만 남깁니다.
+ */
+@Slf4j
+@Component
+public class RedisSecretRefresher {
+
+    private final SecretBootstrap secretBootstrap;
+    private final ReloadableRedisConnectionFactory connectionFactory;
+
+    private Disposable subscription;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param secretBootstrap   - 바뀐 비밀 값을 알려줍니다.
+     * @param connectionFactory - RedisConfig 가 등록한 교체 가능한 연결 팩토리입니다.
+     */
+    public RedisSecretRefresher(SecretBootstrap secretBootstrap,
+                                ReloadableRedisConnectionFactory connectionFactory) {
+
+        this.secretBootstrap = secretBootstrap;
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * 비밀 값 변경 구독을 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        this.subscription = secretBootstrap.changes()
+                                           .subscribe(this::apply);
+    }
+
+    /**
+     * 비밀 값 변경 구독을 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(subscription)) {
+            subscription.dispose();
+        }
+    }
+
+    private synchronized void apply(GatewaySecrets secrets) {
+        RedisConfiguration updated;
+
+        try {
+            updated = RedisConfig.parseRedisInfo(secrets.getRedisInfo(), secrets.getRedisPassword());
+        } catch (SecureManagerException ex) {
+            log.warn("바뀐 Redis 접속 정보의 형식이 올바르지 않아 반영하지 않습니다.");
+            return;
+        }
+
+        RedisConfiguration current = connectionFactory.getConfiguration();
+
+        if (current.getClass() != updated.getClass()) {
+            log.warn("Redis 구성 방식이 바뀌었습니다. 재기동해야 반영됩니다.");
+            return;
+        }
+
+        boolean nodeChanged = !isSameNodes(current, updated);
+        boolean passwordChanged = !Objects.equals(passwordOf(current), passwordOf(updated));
+
+        if (!nodeChanged && !passwordChanged) {
+            return;
+        }
+
+        try {
+            connectionFactory.reload(updated);
+        } catch (RuntimeException ex) {
+            log.warn("바뀐 Redis 설정으로 연결 팩토리를 만들지 못해 기존 연결을 유지합니다. {}", ex.toString());
+            return;
+        }
+
+        log.info("바뀐 Redis 설정으로 연결을 교체했습니다. 노드 변경: {}, 비밀번호 변경: {}", nodeChanged, passwordChanged);
+    }
+
+    private static RedisPassword passwordOf(RedisConfiguration configuration) {
+        if (RedisConfiguration.isAuthenticationAware(configuration)) {
+            return ((RedisConfiguration.WithAuthentication) configuration).getPassword();
+        }
+
+        return RedisPassword.none();
+    }
+
+    private static boolean isSameNodes(RedisConfiguration current, RedisConfiguration updated) {
+        if (current instanceof RedisStandaloneConfiguration) {
+            RedisStandaloneConfiguration from = (RedisStandaloneConfiguration) current;
+            RedisStandaloneConfiguration to = (RedisStandaloneConfiguration) updated;
+
+            return from.getHostName().equals(to.getHostName())
+                && from.getPort() == to.getPort()
+                && from.getDatabase() == to.getDatabase();
+        }
+
+        if (current instanceof RedisSentinelConfiguration) {
+            RedisSentinelConfiguration from = (RedisSentinelConfiguration) current;
+            RedisSentinelConfiguration to = (RedisSentinelConfiguration) updated;
+
+            return Objects.equals(Objects.requireNonNull(from.getMaster()).getName(),
+                                  Objects.requireNonNull(to.getMaster()).getName())
+                && from.getSentinels().equals(to.getSentinels())
+                && from.getDatabase() == to.getDatabase();
+        }
+
+        if (current instanceof RedisClusterConfiguration) {
+            RedisClusterConfiguration from = (RedisClusterConfiguration) current;
+            RedisClusterConfiguration to = (RedisClusterConfiguration) updated;
+
+            return from.getClusterNodes().equals(to.getClusterNodes());
+        }
+
+        return true;
+    }
+
+}
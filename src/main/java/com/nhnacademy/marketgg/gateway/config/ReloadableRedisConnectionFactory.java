@@ -0,0 +1,157 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.ReactiveRedisClusterConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnection;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisClusterConnection;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import reactor.core.publisher.Mono;
+
+/**
+ * 바뀐 Redis 구성으로 새 LettuceConnectionFactory 를 만들어 교체할 수 있는 연결 팩토리입니다.
+ *
+ * <p>LettuceConnectionFactory 는 한 번 destroy 하면 다시 초기화해도 쓸 수 없으므로, 구성이 바뀌면 새 팩토리를 만들어 교체합니다.
+ * RedisTemplate 과 ReactiveRedisTemplate 은 명령마다 이 팩토리에서 연결을 얻으므로 교체 직후부터 새 팩토리를 씁니다.
+ * 이전 팩토리는 진행 중인 명령이 끝나도록 {@code retireDelay} 가 지난 뒤 닫습니다.
+ * pub/sub 구독처럼 연결을 오래 쥐고 있는 사용자는 이전 팩토리가 닫힌 뒤 이 팩토리에서 연결을 다시 얻어야 합니다.
+ */
+@Slf4j
+public class ReloadableRedisConnectionFactory
+    implements RedisConnectionFactory, ReactiveRedisConnectionFactory, InitializingBean, DisposableBean {
+
+    private final LettuceClientConfiguration clientConfiguration;
+    private final Duration retireDelay;
+    private final Set<LettuceConnectionFactory> retiring = ConcurrentHashMap.newKeySet();
+
+    private volatile RedisConfiguration configuration;
+    private volatile LettuceConnectionFactory delegate;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param configuration       - 처음 연결할 Redis 구성입니다.
+     * @param clientConfiguration - 교체 전후의 모든 팩토리가 공유하는 Lettuce 클라이언트 설정입니다.
+     * @param retireDelay         - 교체된 이전 팩토리를 닫기까지 기다리는 시간입니다.
+     */
+    public ReloadableRedisConnectionFactory(RedisConfiguration configuration,
+                                            LettuceClientConfiguration clientConfiguration,
+                                            Duration retireDelay) {
+
+        this.clientConfiguration = clientConfiguration;
+        this.retireDelay = retireDelay;
+        this.configuration = configuration;
+        this.delegate = new LettuceConnectionFactory(configuration, clientConfiguration);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        delegate.afterPropertiesSet();
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+        retiring.forEach(this::retire);
+    }
+
+    /**
+     * 새 Redis 구성으로 연결 팩토리를 만들어 교체합니다.
+     * 새 팩토리를 먼저 초기화한 뒤 교체하므로, 교체 중에도 연결을 얻지 못하는 구간이 없습니다.
+     *
+     * @param updated - 새로 연결할 Redis 구성입니다.
+     */
+    public synchronized void reload(RedisConfiguration updated) {
+        LettuceConnectionFactory created = new LettuceConnectionFactory(updated, clientConfiguration);
+        created.afterPropertiesSet();
+
+        LettuceConnectionFactory retired = this.delegate;
+        this.delegate = created;
+        this.configuration = updated;
+
+        retiring.add(retired);
+        Mono.delay(retireDelay)
+            .subscribe(tick -> this.retire(retired));
+    }
+
+    /**
+     * 현재 연결에 쓰이는 Redis 구성을 반환합니다.
+     *
+     * @return RedisConfiguration
+     */
+    public RedisConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Cluster 구성으로 연결하는지 확인합니다.
+     *
+     * @return Cluster 구성이면 true
+     */
+    public boolean isClusterAware() {
+        return delegate.isClusterAware();
+    }
+
+    /**
+     * 연결할 DB 번호를 반환합니다.
+     *
+     * @return DB 번호
+     */
+    public int getDatabase() {
+        return delegate.getDatabase();
+    }
+
+    @Override
+    public RedisConnection getConnection() {
+        return delegate.getConnection();
+    }
+
+    @Override
+    public RedisClusterConnection getClusterConnection() {
+        return delegate.getClusterConnection();
+    }
+
+    @Override
+    public boolean getConvertPipelineAndTxResults() {
+        return delegate.getConvertPipelineAndTxResults();
+    }
+
+    @Override
+    public RedisSentinelConnection getSentinelConnection() {
+        return delegate.getSentinelConnection();
+    }
+
+    @Override
+    public ReactiveRedisConnection getReactiveConnection() {
+        return delegate.getReactiveConnection();
+    }
+
+    @Override
+    public ReactiveRedisClusterConnection getReactiveClusterConnection() {
+        return delegate.getReactiveClusterConnection();
+    }
+
+    @Override
+    public DataAccessException translateExceptionIfPossible(RuntimeException ex) {
+        return delegate.translateExceptionIfPossible(ex);
+    }
+
+    private void retire(LettuceConnectionFactory retired) {
+        if (retiring.remove(retired)) {
+            retired.destroy();
+            log.info("교체된 이전 Redis 연결 팩토리를 닫았습니다.");
+        }
+    }
+
+}
@@ -0,0 +1,98 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import com.nhnacademy.marketgg.gateway.util.SecureUtils;
+import java.net.InetSocketAddress;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.resources.ConnectionProvider;
+
+/**
+ * 라우트가 백엔드로 요청을 전달할 때 쓰는 HttpClient 를 설정합니다.
+ * Spring Cloud Gateway 의 기본 gatewayHttpClient 를 대체하며, 백엔드별 연결 풀과 TLS 세션 재개로 연결을 재사용합니다.
+ */
+@Slf4j
+@Configuration
+@EnableConfigurationProperties(UpstreamProperties.class)
+@ConditionalOnProperty(name = "gg.upstream.enabled", havingValue = "true")
+public class UpstreamHttpClientConfig {
+
+    private static final String POOL_NAME = "gg-upstream";
+
+    /**
+     * 백엔드 요청에 쓰이는 ConnectionProvider 를 스프링 빈으로 등록합니다.
+     * 연결 풀 지표는 reactor.netty.connection.provider.* 로 발행됩니다.
+     *
+     * @param properties - upstream 설정
+     * @return ConnectionProvider
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider upstreamConnectionProvider(UpstreamProperties properties) {
+        UpstreamProperties.Pool defaultPool = properties.getDefaultPool();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME)
+                                                               .maxConnections(defaultPool.getMaxConnections())
+                                                               .pendingAcquireMaxCount(
+                                                                   defaultPool.getPendingAcquireMaxCount())
+                                                               .pendingAcquireTimeout(
+                                                                   defaultPool.getPendingAcquireTimeout())
+                                                               .maxIdleTime(defaultPool.getMaxIdleTime())
+                                                               .maxLifeTime(defaultPool.getMaxLifeTime())
+                                                               .evictInBackground(defaultPool.getEvictInBackground())
+                                                               .metrics(true);
+
+        for (Map.Entry<String, UpstreamProperties.Pool> entry : properties.getPools().entrySet()) {
+            UpstreamProperties.Pool pool = entry.getValue();
+
+            log.info("upstream 연결 풀 {}: {}:{} (max-connections: {})",
+                     entry.getKey(), pool.getHost(), pool.getPort(), pool.getMaxConnections());
+
+            builder.forRemoteHost(InetSocketAddress.createUnresolved(pool.getHost(), pool.getPort()),
+                                  spec -> spec.maxConnections(pool.getMaxConnections())
+                                              .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                                              .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                                              .maxIdleTime(pool.getMaxIdleTime())
+                                              .maxLifeTime(pool.getMaxLifeTime())
+                                              .evictInBackground(pool.getEvictInBackground())
+                                              .metrics(true));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Spring Cloud Gateway 가 라우팅에 사용하는 HttpClient 를 스프링 빈으로 등록합니다.
+     * spring.cloud.gateway.httpclient 설정과 HttpClientCustomizer 빈을 함께 적용하며,
+     * 적용하지 않는 설정은 {@link UpstreamHttpClientFactory} 를 참고하세요.
+     *
+     * @param properties                 - upstream 설정
+     * @param httpClientProperties       - spring.cloud.gateway.httpclient 설정
+     * @param serverProperties           - server 설정
+     * @param customizers                - HttpClientCustomizer 빈
+     * @param upstreamConnectionProvider - 백엔드별 연결 풀
+     * @param secureUtils                - 클라이언트 인증서를 제공하는 유틸리티 클래스
+     * @return HttpClient 를 만드는 HttpClientFactory
+     */
+    @Bean
+    public HttpClientFactory gatewayHttpClient(UpstreamProperties properties,
+                                               HttpClientProperties httpClientProperties,
+                                               ServerProperties serverProperties,
+                                               ObjectProvider<HttpClientCustomizer> customizers,
+                                               ConnectionProvider upstreamConnectionProvider,
+                                               SecureUtils secureUtils) {
+
+        return new UpstreamHttpClientFactory(httpClientProperties, serverProperties,
+                                             customizers.orderedStream().collect(Collectors.toList()),
+                                             properties, upstreamConnectionProvider, secureUtils);
+    }
+
+}
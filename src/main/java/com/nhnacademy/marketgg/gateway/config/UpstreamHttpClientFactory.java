@@ -0,0 +1,135 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import com.nhnacademy.marketgg.gateway.util.SecureUtils;
+import io.netty.channel.ChannelOption;
+import io.netty.handler.ssl.SslContextBuilder;
+import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
+import java.security.cert.X509Certificate;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.util.StringUtils;
+import reactor.netty.http.Http11SslContextSpec;
+import reactor.netty.http.Http2SslContextSpec;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.HttpResources;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.tcp.SslProvider;
+
+/**
+ * upstream 연결 풀과 TLS 설정으로 gatewayHttpClient 를 만드는 HttpClientFactory 입니다.
+ *
+ * <p>{@code spring.cloud.gateway.httpclient.*} 의 proxy, ssl(신뢰 인증서, 키스토어, handshake/close-notify 시간),
+ * max-header-size, max-initial-line-length, wiretap, compression 과 HttpClientCustomizer 빈은 기본 구현과 같이 적용합니다.
+ * 연결 풀은 {@code gg.upstream} 의 백엔드별 풀을 쓰므로 {@code spring.cloud.gateway.httpclient.pool.*} 는 쓰지 않고,
+ * HTTP/2 사용 여부는 {@code server.http2.enabled} 대신 {@code gg.upstream.http2} 로 정합니다.
+ * connect-timeout 은 {@code spring.cloud.gateway.httpclient.connect-timeout} 이 있으면 그 값을, 없으면
+ * {@code gg.upstream.connect-timeout} 을 씁니다. response-timeout 은 NettyRoutingFilter 가 요청마다 적용합니다.
+ */
+public class UpstreamHttpClientFactory extends HttpClientFactory {
+
+    private final UpstreamProperties upstreamProperties;
+    private final ConnectionProvider connectionProvider;
+    private final SecureUtils secureUtils;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param properties         - spring.cloud.gateway.httpclient 설정
+     * @param serverProperties   - server 설정
+     * @param customizers        - 순서대로 정렬된 HttpClientCustomizer 목록
+     * @param upstreamProperties - upstream 설정
+     * @param connectionProvider - 백엔드별 연결 풀
+     * @param secureUtils        - 클라이언트 인증서를 제공하는 유틸리티 클래스
+     */
+    public UpstreamHttpClientFactory(HttpClientProperties properties, ServerProperties serverProperties,
+                                     List<HttpClientCustomizer> customizers, UpstreamProperties upstreamProperties,
+                                     ConnectionProvider connectionProvider, SecureUtils secureUtils) {
+
+        super(properties, serverProperties, customizers);
+        this.upstreamProperties = upstreamProperties;
+        this.connectionProvider = connectionProvider;
+        this.secureUtils = secureUtils;
+    }
+
+    @Override
+    protected HttpClient createInstance() {
+        HttpProtocol[] protocols = upstreamProperties.isHttp2()
+            ? new HttpProtocol[] {HttpProtocol.H2, HttpProtocol.HTTP11}
+            : new HttpProtocol[] {HttpProtocol.HTTP11};
+        int connectTimeout = Objects.nonNull(properties.getConnectTimeout())
+            ? properties.getConnectTimeout()
+            : (int) upstreamProperties.getConnectTimeout().toMillis();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .httpResponseDecoder(this::httpResponseDecoder)
+                                          .runOn(HttpResources.get(), upstreamProperties.isNativeTransport())
+                                          .protocol(protocols)
+                                          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeout);
+
+        httpClient = this.configureProxy(httpClient);
+        httpClient = this.configureSsl(httpClient);
+
+        if (properties.isWiretap()) {
+            httpClient = httpClient.wiretap(true);
+        }
+        if (properties.isCompression()) {
+            httpClient = httpClient.compress(true);
+        }
+
+        for (HttpClientCustomizer customizer : customizers) {
+            httpClient = customizer.customize(httpClient);
+        }
+
+        return httpClient;
+    }
+
+    @Override
+    protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+        return connectionProvider;
+    }
+
+    /**
+     * TLS 세션 재개와 클라이언트 인증서를 항상 설정하므로, ssl 설정이 없어도 secure 를 적용합니다.
+     */
+    @Override
+    protected HttpClient configureSsl(HttpClient httpClient) {
+        HttpClientProperties.Ssl ssl = properties.getSsl();
+
+        return httpClient.secure(spec -> spec.sslContext(this.sslContextSpec(ssl))
+                                             .handshakeTimeout(ssl.getHandshakeTimeout())
+                                             .closeNotifyFlushTimeout(ssl.getCloseNotifyFlushTimeout())
+                                             .closeNotifyReadTimeout(ssl.getCloseNotifyReadTimeout()));
+    }
+
+    private SslProvider.ProtocolSslContextSpec sslContextSpec(HttpClientProperties.Ssl ssl) {
+        Consumer<SslContextBuilder> configurer = builder -> {
+            X509Certificate[] trusted = this.getTrustedX509CertificatesForTrustManager();
+
+            if (trusted.length > 0) {
+                this.setTrustManager(builder, trusted);
+            } else if (ssl.isUseInsecureTrustManager()) {
+                this.setTrustManager(builder, InsecureTrustManagerFactory.INSTANCE);
+            }
+
+            builder.sessionCacheSize(upstreamProperties.getSessionCacheSize())
+                   .sessionTimeout(upstreamProperties.getSessionTimeout().getSeconds());
+
+            if (upstreamProperties.isMutualTls()) {
+                builder.keyManager(secureUtils.getKeyManagerFactory());
+            } else if (StringUtils.hasText(ssl.getKeyStore())) {
+                builder.keyManager(this.getKeyManagerFactory());
+            }
+        };
+
+        return upstreamProperties.isHttp2()
+            ? Http2SslContextSpec.forClient().configure(configurer)
+            : Http11SslContextSpec.forClient().configure(configurer);
+    }
+
+}
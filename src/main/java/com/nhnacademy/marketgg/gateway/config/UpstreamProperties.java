@@ -0,0 +1,84 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 라우트가 요청을 전달하는 백엔드(upstream) HTTP 클라이언트 설정입니다.
+ *
+ * <pre>
+ * gg:
+ *   upstream:
+ *     enabled: true
+ *     http2: false
+ *     pools:
+ *       shop:
+ *         host: shop.marketgg.internal
+ *         port: 8080
+ *         max-connections: 200
+ * </pre>
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "gg.upstream")
+public class UpstreamProperties {
+
+    private boolean enabled = false;
+
+    /**
+     * TLS 백엔드에 HTTP/2 를 먼저 제안하고, 지원하지 않으면 HTTP/1.1 을 사용합니다.
+     */
+    private boolean http2 = false;
+
+    /**
+     * Linux 에서 epoll 네이티브 전송 계층을 우선 사용합니다.
+     */
+    private boolean nativeTransport = true;
+
+    /**
+     * TLS 백엔드에 SecureUtils 키스토어의 클라이언트 인증서를 제시합니다.
+     */
+    private boolean mutualTls = true;
+
+    private Duration connectTimeout = Duration.ofSeconds(3);
+
+    /**
+     * TLS 세션 재개를 위해 보관할 세션 수입니다.
+     */
+    private long sessionCacheSize = 1024;
+
+    private Duration sessionTimeout = Duration.ofMinutes(10);
+
+    /**
+     * pools 에 지정되지 않은 백엔드에 적용되는 기본 연결 풀 설정입니다.
+     */
+    private Pool defaultPool = new Pool();
+
+    /**
+     * 이름별 연결 풀 설정입니다. 보통 라우트 하나가 백엔드 하나를 가리키므로 라우트 이름을 사용합니다.
+     */
+    private Map<String, Pool> pools = new LinkedHashMap<>();
+
+    /**
+     * 하나의 백엔드에 대한 연결 풀 설정입니다.
+     */
+    @Getter
+    @Setter
+    public static class Pool {
+
+        private String host;
+        private int port;
+        private int maxConnections = 500;
+        private int pendingAcquireMaxCount = 1000;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(5);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(10);
+        private Duration evictInBackground = Duration.ofSeconds(30);
+
+    }
+
+}
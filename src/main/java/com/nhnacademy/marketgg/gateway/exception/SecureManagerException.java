@@ -6,5 +6,9 @@ public class SecureManagerException extends RuntimeException {
         super("Secure Manager Error!!");
     }
 
+    public SecureManagerException(Throwable cause) {
+        super("Secure Manager Error!!", cause);
+    }
+
 }
 
@@ -0,0 +1,125 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.accesslog.AccessLogRecord;
+import com.nhnacademy.marketgg.gateway.accesslog.AccessLogWriter;
+import java.net.InetSocketAddress;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.core.Ordered;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * 모든 요청에 대해 하나의 접근 로그 레코드를 남기는 전역 필터입니다.
+ * 레코드는 {@link AccessLogWriter} 의 링 버퍼에 들어가며, 이벤트 루프에서는 문자열 포맷팅이나 I/O 를 하지 않습니다.
+ *
+ * <p>{@code sample-rate} 비율만큼만 기록하며, 상태 코드가 400 이상인 응답은 {@code always-log-errors} 가 켜져 있으면 항상 기록합니다.
+ * AUTH-ID 는 {@link JwtAuthorizationFilter}, 클라이언트 IP 는 {@link HeaderFilter} 가 exchange 속성으로 넘겨주며,
+ * 클라이언트 IP 가 없으면 원격 주소를 사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "gg.access-log.enabled", havingValue = "true", matchIfMissing = true)
+public class AccessLogFilter implements GlobalFilter, Ordered {
+
+    /**
+     * 인증된 사용자의 UUID 를 담는 exchange 속성 이름입니다.
+     */
+    public static final String AUTH_ID_ATTR = AccessLogFilter.class.getName() + ".authId";
+
+    /**
+     * 클라이언트 IP 를 담는 exchange 속성 이름입니다.
+     */
+    public static final String CLIENT_IP_ATTR = AccessLogFilter.class.getName() + ".clientIp";
+
+    private static final int ERROR_STATUS = 400;
+
+    private final AccessLogWriter writer;
+    private final double sampleRate;
+    private final boolean alwaysLogErrors;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param writer          - 접근 로그 레코드를 모아 기록하는 writer 입니다.
+     * @param sampleRate      - 기록할 요청의 비율(0.0 ~ 1.0)입니다.
+     * @param alwaysLogErrors - 오류 응답은 샘플링과 관계없이 기록할지 여부입니다.
+     */
+    public AccessLogFilter(AccessLogWriter writer,
+                           @Value("${gg.access-log.sample-rate:1.0}") double sampleRate,
+                           @Value("${gg.access-log.always-log-errors:true}") boolean alwaysLogErrors) {
+
+        this.writer = writer;
+        this.sampleRate = sampleRate;
+        this.alwaysLogErrors = alwaysLogErrors;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        long timestamp = System.currentTimeMillis();
+        long start = System.nanoTime();
+
+        return chain.filter(exchange)
+                    .doFinally(signal -> this.log(exchange, timestamp, System.nanoTime() - start));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    private void log(ServerWebExchange exchange, long timestamp, long durationNanos) {
+        Integer rawStatus = exchange.getResponse().getRawStatusCode();
+        int status = Objects.nonNull(rawStatus) ? rawStatus : 0;
+
+        if (!this.isSampled(status)) {
+            return;
+        }
+
+        ServerHttpRequest request = exchange.getRequest();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        writer.offer(new AccessLogRecord(timestamp,
+                                         request.getMethodValue(),
+                                         request.getURI().getRawPath() + this.query(request),
+                                         status,
+                                         Objects.nonNull(route) ? route.getId() : null,
+                                         exchange.getAttribute(AUTH_ID_ATTR),
+                                         this.clientIp(exchange),
+                                         durationNanos));
+    }
+
+    private boolean isSampled(int status) {
+        if (sampleRate >= 1.0 || (alwaysLogErrors && status >= ERROR_STATUS)) {
+            return true;
+        }
+
+        return ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    private String query(ServerHttpRequest request) {
+        String query = request.getURI().getRawQuery();
+
+        return Objects.nonNull(query) ? "?" + query : "";
+    }
+
+    private String clientIp(ServerWebExchange exchange) {
+        String clientIp = exchange.getAttribute(CLIENT_IP_ATTR);
+
+        if (Objects.nonNull(clientIp)) {
+            return clientIp;
+        }
+
+        InetSocketAddress remoteAddress = exchange.getRequest().getRemoteAddress();
+
+        return Objects.nonNull(remoteAddress) ? remoteAddress.getHostString() : null;
+    }
+
+}
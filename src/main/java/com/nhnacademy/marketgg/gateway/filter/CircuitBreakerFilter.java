@@ -0,0 +1,138 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.circuit.CircuitBreaker;
+import com.nhnacademy.marketgg.gateway.handler.ErrorResponses;
+import com.nhnacademy.marketgg.gateway.util.ErrorStatusUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 라우트별 서킷 브레이커 필터입니다.
+ * 백엔드의 502/503/504 응답이나 연결 실패, 시간 초과를 실패로 세고, 서킷이 열리면 백엔드로 보내지 않고
+ * 미리 직렬화된 503 응답과 Retry-After 로 즉시 응답합니다.
+ *
+ * <pre>
+ * filters:
+ *   - name: CircuitBreakerFilter
+ *     args:
+ *       failure-rate-threshold: 0.5
+ *       open-duration: 10s
+ * </pre>
+ */
+@Component
+public class CircuitBreakerFilter extends AbstractGatewayFilterFactory<CircuitBreakerFilter.Config> {
+
+    private final ErrorResponses errorResponses;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param errorResponses - 상태 코드별로 미리 직렬화된 오류 응답입니다.
+     * @param meterRegistry  - 서킷 상태와 거절 수를 기록할 MeterRegistry 입니다.
+     */
+    public CircuitBreakerFilter(ErrorResponses errorResponses, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.errorResponses = errorResponses;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+        Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+        return (exchange, chain) -> {
+            String routeId = this.routeId(exchange);
+            CircuitBreaker breaker = breakers.computeIfAbsent(routeId, id -> this.newBreaker(id, config));
+            CircuitBreaker.State acquired = breaker.tryAcquire();
+
+            if (Objects.isNull(acquired)) {
+                rejections.computeIfAbsent(routeId, this::rejectionCounter).increment();
+
+                ServerHttpResponse response = exchange.getResponse();
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                                          Long.toString(breaker.getRemainingOpenSeconds()));
+
+                return errorResponses.write(response, HttpStatus.SERVICE_UNAVAILABLE);
+            }
+
+            return chain.filter(exchange)
+                        .doOnSuccess(done -> breaker.onResult(acquired, !this.isUpstreamFailure(exchange)))
+                        .doOnError(ex -> breaker.onResult(acquired, !this.isUpstreamFailure(ex)))
+                        .doOnCancel(() -> breaker.onIgnored(acquired));
+        };
+    }
+
+    private boolean isUpstreamFailure(ServerWebExchange exchange) {
+        Integer status = exchange.getResponse().getRawStatusCode();
+
+        return Objects.nonNull(status) && ErrorStatusUtils.isUpstreamFailure(status);
+    }
+
+    private boolean isUpstreamFailure(Throwable ex) {
+        return ErrorStatusUtils.isUpstreamFailure(ErrorStatusUtils.resolve(ex).value());
+    }
+
+    private CircuitBreaker newBreaker(String routeId, Config config) {
+        CircuitBreaker breaker = new CircuitBreaker(config.getFailureRateThreshold(), config.getMinimumCalls(),
+                                                    config.getWindowSize(), config.getOpenDuration(),
+                                                    config.getHalfOpenProbes());
+
+        Gauge.builder("gg.circuit.state", breaker, b -> b.getState().ordinal())
+             .description("라우트별 서킷 상태 (0: CLOSED, 1: OPEN, 2: HALF_OPEN)")
+             .tag("route", routeId)
+             .register(meterRegistry);
+
+        return breaker;
+    }
+
+    private Counter rejectionCounter(String routeId) {
+        return Counter.builder("gg.circuit.rejected")
+                      .description("서킷이 열려 거절된 요청 수")
+                      .tag("route", routeId)
+                      .register(meterRegistry);
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        return Objects.nonNull(route) ? route.getId() : "default";
+    }
+
+    /**
+     * 설정 생성자.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        private double failureRateThreshold = 0.5;
+
+        private int minimumCalls = 20;
+
+        private int windowSize = 100;
+
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        private int halfOpenProbes = 3;
+
+    }
+
+}
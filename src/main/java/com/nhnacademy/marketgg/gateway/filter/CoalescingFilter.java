@@ -0,0 +1,268 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.cache.CachedResponse;
+import com.nhnacademy.marketgg.gateway.cache.CapturingResponseDecorator;
+import com.nhnacademy.marketgg.gateway.util.RequestKeyUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+/**
+ * 동시에 들어온 같은 GET 요청을 하나의 백엔드 호출로 합치는 필터입니다.
+ * 먼저 들어온 요청(leader)만 백엔드로 보내고, 그 응답이 끝날 때까지 들어온 같은 요청(follower)에는 같은 응답을 다시 보냅니다.
+ *
+ * <pre>
+ * filters:
+ *   - JwtAuthorizationFilter
+ *   - name: ResponseCacheFilter
+ *   - name: CoalescingFilter
+ *     args:
+ *       max-wait: 2s
+ * </pre>
+ *
+ * <p>같은 요청인지는 라우트, 경로, 쿼리, 검증된 사용자, {@code vary-headers} 값으로 판단하며,
+ * 인증 헤더가 있는 요청은 Authorization, AUTH-ID 헤더까지 같아야 합니다.
+ * leader 응답이 {@code max-body-size} 를 넘거나, Set-Cookie 를 담거나, 실패하거나, follower 가 {@code max-wait} 안에 응답을 받지 못하면
+ * follower 는 각자 백엔드를 호출합니다.
+ * follower 에는 leader 응답의 상태 코드, 본문과 {@link CachedResponse#STORED_HEADERS} 헤더만 다시 보내며,
+ * CORS 처럼 요청마다 달라지는 헤더는 follower 자신의 응답 헤더를 그대로 씁니다.
+ * 조건부 요청(If-None-Match 등)과 Range 요청은 응답이 요청마다 달라지므로 합치지 않고, 304, 206 응답도 나누어 주지 않습니다.
+ */
+@Component
+public class CoalescingFilter extends AbstractGatewayFilterFactory<CoalescingFilter.Config> {
+
+    private static final String KEY_PREFIX = "gg:sf:";
+    private static final String COALESCED = "X-Gateway-Coalesced";
+    private static final List<String> PRECONDITION_HEADERS = List.of(HttpHeaders.IF_NONE_MATCH,
+                                                                     HttpHeaders.IF_MODIFIED_SINCE,
+                                                                     HttpHeaders.IF_MATCH,
+                                                                     HttpHeaders.IF_UNMODIFIED_SINCE,
+                                                                     HttpHeaders.IF_RANGE,
+                                                                     HttpHeaders.RANGE);
+
+    private final Map<String, InFlight> inFlights = new ConcurrentHashMap<>();
+
+    private final Counter leaders;
+    private final Counter followers;
+    private final Counter fallbacks;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param meterRegistry - 합쳐진 요청 수를 기록할 MeterRegistry 입니다.
+     */
+    public CoalescingFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.leaders = this.resultCounter(meterRegistry, "leader");
+        this.followers = this.resultCounter(meterRegistry, "follower");
+        this.fallbacks = this.resultCounter(meterRegistry, "fallback");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() != HttpMethod.GET
+                || isConditional(exchange.getRequest().getHeaders())) {
+
+                return chain.filter(exchange);
+            }
+
+            String key = RequestKeyUtils.key(KEY_PREFIX, exchange, this.varyHeaders(exchange, config));
+            InFlight created = new InFlight();
+            InFlight existing = inFlights.putIfAbsent(key, created);
+
+            if (Objects.isNull(existing)) {
+                return this.lead(exchange, chain, key, created, config);
+            }
+
+            return this.follow(exchange, chain, existing, config);
+        };
+    }
+
+    private Mono<Void> lead(ServerWebExchange exchange, GatewayFilterChain chain, String key, InFlight inFlight,
+                            Config config) {
+
+        leaders.increment();
+
+        ServerHttpResponse response = exchange.getResponse();
+        CapturingResponseDecorator capturing =
+            new CapturingResponseDecorator(response, config.getMaxBodySize(),
+                                           body -> {
+                                               inFlights.remove(key, inFlight);
+                                               inFlight.complete(response, body);
+                                           },
+                                           () -> {
+                                               inFlights.remove(key, inFlight);
+                                               inFlight.abandon();
+                                           });
+
+        return chain.filter(exchange.mutate().response(capturing).build())
+                    .doFinally(signal -> {
+                        inFlights.remove(key, inFlight);
+                        inFlight.abandon();
+                    });
+    }
+
+    private Mono<Void> follow(ServerWebExchange exchange, GatewayFilterChain chain, InFlight inFlight,
+                              Config config) {
+
+        return inFlight.result()
+                       .timeout(config.getMaxWait())
+                       .map(Optional::of)
+                       .onErrorReturn(Optional.empty())
+                       .defaultIfEmpty(Optional.empty())
+                       .flatMap(shared -> {
+                           if (shared.isEmpty()) {
+                               fallbacks.increment();
+                               return chain.filter(exchange);
+                           }
+
+                           followers.increment();
+                           return this.replay(exchange, shared.get());
+                       });
+    }
+
+    private Mono<Void> replay(ServerWebExchange exchange, SharedResponse shared) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+
+        headers.putAll(shared.headers);
+        headers.setContentLength(shared.body.length);
+        headers.set(COALESCED, "true");
+        response.setRawStatusCode(shared.status);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(shared.body)));
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        for (String name : PRECONDITION_HEADERS) {
+            if (headers.containsKey(name)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private List<String> varyHeaders(ServerWebExchange exchange, Config config) {
+        if (!RequestKeyUtils.hasCredentials(exchange.getRequest().getHeaders())) {
+            return config.getVaryHeaders();
+        }
+
+        List<String> varyHeaders = new ArrayList<>(config.getVaryHeaders());
+        varyHeaders.add(HttpHeaders.AUTHORIZATION);
+        varyHeaders.add(RequestKeyUtils.AUTH_ID);
+
+        return varyHeaders;
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gg.coalesce.requests")
+                      .description("요청 합치기 결과")
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * 진행 중인 하나의 백엔드 호출입니다. 결과는 한 번만 발행됩니다.
+     */
+    private static final class InFlight {
+
+        private final Sinks.One<SharedResponse> sink = Sinks.one();
+
+        Mono<SharedResponse> result() {
+            return sink.asMono();
+        }
+
+        void complete(ServerHttpResponse response, byte[] body) {
+            Integer status = response.getRawStatusCode();
+
+            if (Objects.isNull(status)
+                || status == HttpStatus.NOT_MODIFIED.value()
+                || status == HttpStatus.PARTIAL_CONTENT.value()
+                || response.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+
+                sink.tryEmitEmpty();
+                return;
+            }
+
+            HttpHeaders headers = new HttpHeaders();
+            for (String name : CachedResponse.STORED_HEADERS) {
+                List<String> values = response.getHeaders().get(name);
+
+                if (Objects.nonNull(values)) {
+                    headers.put(name, values);
+                }
+            }
+            sink.tryEmitValue(new SharedResponse(status, HttpHeaders.readOnlyHttpHeaders(headers), body));
+        }
+
+        void abandon() {
+            sink.tryEmitEmpty();
+        }
+
+    }
+
+    /**
+     * follower 에게 다시 보낼 leader 의 응답입니다.
+     */
+    private static final class SharedResponse {
+
+        private final int status;
+        private final HttpHeaders headers;
+        private final byte[] body;
+
+        SharedResponse(int status, HttpHeaders headers, byte[] body) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+        }
+
+    }
+
+    /**
+     * 설정 생성자.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * follower 가 leader 의 응답을 기다리는 최대 시간입니다.
+         */
+        private Duration maxWait = Duration.ofSeconds(2);
+
+        /**
+         * 다시 보낼 수 있는 최대 본문 크기(바이트)입니다.
+         */
+        private int maxBodySize = 1024 * 1024;
+
+        /**
+         * 같은 요청인지 판단할 때 비교할 요청 헤더입니다.
+         */
+        private List<String> varyHeaders = new ArrayList<>(List.of(HttpHeaders.ACCEPT,
+                                                                   HttpHeaders.ACCEPT_ENCODING,
+                                                                   HttpHeaders.ACCEPT_LANGUAGE));
+
+    }
+
+}
@@ -0,0 +1,301 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.compression.DeflaterPool;
+import com.nhnacademy.marketgg.gateway.compression.GzipEncoder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.Getter;
+import lombok.Setter;
+import org.reactivestreams.Publisher;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * 클라이언트가 gzip 을 받을 수 있으면 백엔드 응답 본문을 스트리밍으로 압축하는 필터입니다.
+ *
+ * <pre>
+ * filters:
+ *   - JwtAuthorizationFilter
+ *   - name: ResponseCacheFilter
+ *   - name: CoalescingFilter
+ *   - name: CompressionFilter
+ *     args:
+ *       min-size: 1024
+ * </pre>
+ *
+ * <p>ResponseCacheFilter, CoalescingFilter 는 Accept-Encoding 을 키에 포함하므로, 이 필터를 그 뒤에 두면
+ * 압축된 본문을 저장하고 캐시 적중이나 합쳐진 요청에서는 다시 압축하지 않고 그대로 보냅니다.
+ * 백엔드가 이미 Content-Encoding 을 붙여 보낸 응답도 다시 압축하지 않고 그대로 통과시킵니다.
+ *
+ * <p>본문 형식이 {@code content-types} 에 없거나, Content-Length 가 {@code min-size} 보다 작거나, 본문이 없는 응답은 압축하지 않습니다.
+ * Content-Length 가 없는 응답은 크기를 알 수 없으므로 압축합니다.
+ * 압축한 응답은 Content-Length 를 지우고, 강한 ETag 는 약한 ETag 로 바꿉니다.
+ * writeAndFlushWith 로 쓰는 스트리밍 응답(SSE 등)은 압축하지 않습니다.
+ * 206 Partial Content 나 Content-Range 가 있는 응답은 범위가 원본 본문 기준이므로 압축하지 않습니다.
+ * Deflater 는 압축 수준별 풀에서 빌려 쓰며, 풀에 보관할 최대 개수는 {@code gg.compression.max-idle-deflaters} 로 정합니다.
+ */
+@Component
+public class CompressionFilter extends AbstractGatewayFilterFactory<CompressionFilter.Config> {
+
+    private static final String GZIP = "gzip";
+
+    private final int maxIdleDeflaters;
+    private final Map<Integer, DeflaterPool> pools = new ConcurrentHashMap<>();
+    private final Counter compressed;
+    private final Counter notAccepted;
+    private final Counter alreadyEncoded;
+    private final Counter notCompressible;
+    private final Counter tooSmall;
+    private final Counter inputBytes;
+    private final Counter outputBytes;
+    private final DistributionSummary ratio;
+    private final Timer cpuTime;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param maxIdleDeflaters - 압축 수준별 풀에 보관할 최대 Deflater 수입니다.
+     * @param meterRegistry    - 압축 결과를 기록할 MeterRegistry 입니다.
+     */
+    public CompressionFilter(@Value("${gg.compression.max-idle-deflaters:32}") int maxIdleDeflaters,
+                             MeterRegistry meterRegistry) {
+
+        super(Config.class);
+        this.maxIdleDeflaters = maxIdleDeflaters;
+        this.compressed = this.resultCounter(meterRegistry, "compressed");
+        this.notAccepted = this.resultCounter(meterRegistry, "not_accepted");
+        this.alreadyEncoded = this.resultCounter(meterRegistry, "already_encoded");
+        this.notCompressible = this.resultCounter(meterRegistry, "not_compressible");
+        this.tooSmall = this.resultCounter(meterRegistry, "too_small");
+        this.inputBytes = this.bytesCounter(meterRegistry, "in");
+        this.outputBytes = this.bytesCounter(meterRegistry, "out");
+        this.ratio = DistributionSummary.builder("gg.compression.ratio")
+                                        .description("압축 후 크기 / 원본 크기")
+                                        .register(meterRegistry);
+        this.cpuTime = Timer.builder("gg.compression.cpu")
+                            .description("응답 하나를 압축하는 데 쓴 CPU 시간")
+                            .register(meterRegistry);
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        DeflaterPool pool = pools.computeIfAbsent(config.getLevel(),
+                                                  level -> new DeflaterPool(level, maxIdleDeflaters));
+        List<MediaType> compressible = MediaType.parseMediaTypes(config.getContentTypes());
+
+        return (exchange, chain) -> {
+            if (exchange.getRequest().getMethod() == HttpMethod.HEAD) {
+                return chain.filter(exchange);
+            }
+
+            boolean accepted = acceptsGzip(exchange.getRequest().getHeaders().get(HttpHeaders.ACCEPT_ENCODING));
+            CompressingResponse response =
+                new CompressingResponse(exchange.getResponse(), pool, compressible, config.getMinSize(), accepted);
+
+            return chain.filter(exchange.mutate().response(response).build());
+        };
+    }
+
+    private static boolean acceptsGzip(List<String> acceptEncodings) {
+        if (Objects.isNull(acceptEncodings)) {
+            return false;
+        }
+
+        for (String acceptEncoding : acceptEncodings) {
+            for (String element : acceptEncoding.split(",")) {
+                String[] parameters = element.split(";");
+                String coding = parameters[0].trim().toLowerCase(Locale.ROOT);
+
+                if ((GZIP.equals(coding) || "x-gzip".equals(coding) || "*".equals(coding))
+                    && !isRejected(parameters)) {
+
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean isRejected(String[] parameters) {
+        for (int i = 1; i < parameters.length; i++) {
+            String parameter = parameters[i].trim();
+
+            if (parameter.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(parameter.substring(2)) <= 0.0d;
+                } catch (NumberFormatException ex) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private void record(GzipEncoder encoder) {
+        inputBytes.increment(encoder.getInputBytes());
+        outputBytes.increment(encoder.getOutputBytes());
+        cpuTime.record(encoder.getCpuNanos(), TimeUnit.NANOSECONDS);
+
+        if (encoder.getInputBytes() > 0) {
+            ratio.record((double) encoder.getOutputBytes() / encoder.getInputBytes());
+        }
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gg.compression.responses")
+                      .description("응답 압축 처리 결과")
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    private Counter bytesCounter(MeterRegistry meterRegistry, String direction) {
+        return Counter.builder("gg.compression.bytes")
+                      .description("압축 전후 본문 크기")
+                      .baseUnit("bytes")
+                      .tag("direction", direction)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * 백엔드 응답 헤더를 보고 압축 여부를 정한 뒤 본문을 압축하는 응답 데코레이터입니다.
+     */
+    private final class CompressingResponse extends ServerHttpResponseDecorator {
+
+        private final DeflaterPool pool;
+        private final List<MediaType> compressible;
+        private final int minSize;
+        private final boolean accepted;
+
+        CompressingResponse(ServerHttpResponse delegate, DeflaterPool pool, List<MediaType> compressible,
+                            int minSize, boolean accepted) {
+
+            super(delegate);
+            this.pool = pool;
+            this.compressible = compressible;
+            this.minSize = minSize;
+            this.accepted = accepted;
+        }
+
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            HttpHeaders headers = this.getHeaders();
+
+            if (headers.containsKey(HttpHeaders.CONTENT_ENCODING)) {
+                alreadyEncoded.increment();
+                return super.writeWith(body);
+            }
+
+            if (!this.isCompressible(headers)) {
+                notCompressible.increment();
+                return super.writeWith(body);
+            }
+
+            long contentLength = headers.getContentLength();
+            if (contentLength >= 0 && contentLength < minSize) {
+                tooSmall.increment();
+                return super.writeWith(body);
+            }
+
+            if (headers.getVary().stream().noneMatch(HttpHeaders.ACCEPT_ENCODING::equalsIgnoreCase)) {
+                headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+
+            if (!accepted) {
+                notAccepted.increment();
+                return super.writeWith(body);
+            }
+
+            compressed.increment();
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+            headers.remove(HttpHeaders.CONTENT_LENGTH);
+
+            String etag = headers.getETag();
+            if (Objects.nonNull(etag) && !etag.startsWith("W/")) {
+                headers.setETag("W/" + etag);
+            }
+
+            return super.writeWith(
+                Flux.using(() -> new GzipEncoder(pool, this.bufferFactory()),
+                           encoder -> Flux.from(body)
+                                          .map(encoder::encode)
+                                          .concatWith(Mono.fromSupplier(encoder::finish))
+                                          .doOnComplete(() -> record(encoder)),
+                           GzipEncoder::release));
+        }
+
+        private boolean isCompressible(HttpHeaders headers) {
+            Integer status = this.getRawStatusCode();
+
+            if (Objects.nonNull(status)
+                && (status < HttpStatus.OK.value()
+                    || status == HttpStatus.NO_CONTENT.value()
+                    || status == HttpStatus.PARTIAL_CONTENT.value()
+                    || status == HttpStatus.NOT_MODIFIED.value())) {
+
+                return false;
+            }
+
+            if (headers.containsKey(HttpHeaders.CONTENT_RANGE)) {
+                return false;
+            }
+
+            MediaType contentType = headers.getContentType();
+
+            return Objects.nonNull(contentType)
+                && compressible.stream().anyMatch(type -> type.includes(contentType));
+        }
+
+    }
+
+    /**
+     * 설정 생성자.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * 압축할 최소 본문 크기(바이트)입니다. Content-Length 가 이보다 작으면 압축하지 않습니다.
+         */
+        private int minSize = 1024;
+
+        /**
+         * 압축 수준(1~9)입니다. 높을수록 더 작아지지만 CPU 를 더 씁니다.
+         */
+        private int level = 6;
+
+        /**
+         * 압축할 본문 형식입니다. {@code text/*}, {@code application/*+json} 처럼 와일드카드를 쓸 수 있습니다.
+         */
+        private List<String> contentTypes = new ArrayList<>(List.of(MediaType.APPLICATION_JSON_VALUE,
+                                                                    "application/*+json",
+                                                                    MediaType.APPLICATION_XML_VALUE,
+                                                                    "application/javascript",
+                                                                    "image/svg+xml",
+                                                                    "text/*"));
+
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.concurrency.AdaptiveConcurrencyLimiter;
+import com.nhnacademy.marketgg.gateway.concurrency.RequestPriority;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.SignalType;
+
+/**
+ * 라우트별 동시 요청 수를 백엔드 지연 시간에 맞춰 제한하는 필터입니다.
+ * 한도를 넘은 요청은 백엔드로 보내지 않고 즉시 503 과 Retry-After 로 응답합니다.
+ * 한도는 {@link AdaptiveConcurrencyLimiter} 가 지연 시간을 보고 조절합니다.
+ *
+ * <p>우선순위는 {@link JwtAuthorizationFilter} 가 검증한 클레임({@link JwtAuthorizationFilter#CLAIMS_ATTR})의 권한으로 정하므로,
+ * 그 뒤에 두어야 합니다. 요청 헤더의 WWW-Authenticate 는 클라이언트가 보낼 수 있으므로 사용하지 않습니다.
+ * {@code critical-roles} 의 권한을 가진 요청은 한도를 모두 쓸 수 있고, 다른 인증 요청은 90%, 인증되지 않은 요청은 70% 까지만 쓸 수 있어
+ * 부하가 커지면 인증되지 않은 요청부터 거절됩니다. 주문, 결제 라우트는 {@code authenticated-priority} 를 CRITICAL 로 두어
+ * 인증된 요청을 마지막까지 받을 수 있습니다.
+ *
+ * <pre>
+ * filters:
+ *   - JwtAuthorizationFilter
+ *   - name: ConcurrencyLimitFilter
+ *     args:
+ *       critical-roles: ROLE_ADMIN
+ *       authenticated-priority: CRITICAL
+ * </pre>
+ */
+@Component
+public class ConcurrencyLimitFilter extends AbstractGatewayFilterFactory<ConcurrencyLimitFilter.Config> {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param meterRegistry - 라우트별 한도와 거절 수를 기록할 MeterRegistry 입니다.
+     */
+    public ConcurrencyLimitFilter(MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+        String retryAfter = Long.toString(Math.max(1L, config.getRetryAfter().getSeconds()));
+
+        return (exchange, chain) -> {
+            String routeId = this.routeId(exchange);
+            AdaptiveConcurrencyLimiter limiter = limiters.computeIfAbsent(routeId,
+                                                                          id -> this.newLimiter(id, config));
+            RequestPriority priority = this.priority(exchange, config);
+
+            if (!limiter.tryAcquire(priority)) {
+                this.shedCounter(routeId, priority).increment();
+
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER, retryAfter);
+
+                return response.setComplete();
+            }
+
+            long start = System.nanoTime();
+
+            return chain.filter(exchange)
+                        .doFinally(signal -> this.release(limiter, exchange, signal, System.nanoTime() - start));
+        };
+    }
+
+    private void release(AdaptiveConcurrencyLimiter limiter, ServerWebExchange exchange, SignalType signal,
+                         long rttNanos) {
+
+        if (signal == SignalType.CANCEL) {
+            limiter.onIgnored();
+            return;
+        }
+
+        Integer status = exchange.getResponse().getRawStatusCode();
+
+        if (signal == SignalType.ON_ERROR
+            || Objects.equals(status, HttpStatus.SERVICE_UNAVAILABLE.value())
+            || Objects.equals(status, HttpStatus.GATEWAY_TIMEOUT.value())) {
+
+            limiter.onDropped();
+            return;
+        }
+
+        limiter.onSuccess(rttNanos);
+    }
+
+    private RequestPriority priority(ServerWebExchange exchange, Config config) {
+        VerifiedClaims claims = exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR);
+
+        if (Objects.isNull(claims)) {
+            return RequestPriority.LOW;
+        }
+
+        for (String role : config.getCriticalRoles()) {
+            if (claims.getAuthorities().contains(role)) {
+                return RequestPriority.CRITICAL;
+            }
+        }
+
+        return config.getAuthenticatedPriority();
+    }
+
+    private AdaptiveConcurrencyLimiter newLimiter(String routeId, Config config) {
+        AdaptiveConcurrencyLimiter limiter =
+            new AdaptiveConcurrencyLimiter(config.getInitialLimit(), config.getMinLimit(), config.getMaxLimit(),
+                                           config.getTolerance(), config.getSmoothing(),
+                                           config.getLongWindow(), config.getShortWindow());
+
+        Gauge.builder("gg.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+             .description("라우트별 동시 요청 한도")
+             .tag("route", routeId)
+             .register(meterRegistry);
+        Gauge.builder("gg.concurrency.in-flight", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+             .description("라우트별 진행 중인 요청 수")
+             .tag("route", routeId)
+             .register(meterRegistry);
+
+        return limiter;
+    }
+
+    private Counter shedCounter(String routeId, RequestPriority priority) {
+        return Counter.builder("gg.concurrency.shed")
+                      .description("한도를 넘어 거절된 요청 수")
+                      .tag("route", routeId)
+                      .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+                      .register(meterRegistry);
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        return Objects.nonNull(route) ? route.getId() : "default";
+    }
+
+    /**
+     * 설정 생성자.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        private int initialLimit = 20;
+
+        private int minLimit = 4;
+
+        private int maxLimit = 1000;
+
+        /**
+         * 기준 지연 시간 대비 이만큼까지 늘어난 지연 시간은 과부하로 보지 않습니다.
+         */
+        private double tolerance = 1.5;
+
+        private double smoothing = 0.2;
+
+        private int longWindow = 600;
+
+        private int shortWindow = 10;
+
+        /**
+         * 거절한 요청에 Retry-After 로 알려줄 시간입니다.
+         */
+        private Duration retryAfter = Duration.ofSeconds(1);
+
+        /**
+         * 마지막까지 받아야 하는 요청의 권한입니다.
+         */
+        private List<String> criticalRoles = new ArrayList<>();
+
+        /**
+         * critical-roles 가 없는 인증된 요청의 우선순위입니다.
+         */
+        private RequestPriority authenticatedPriority = RequestPriority.NORMAL;
+
+    }
+
+}
@@ -1,38 +1,37 @@
 package com.nhnacademy.marketgg.gateway.filter;
 
-import java.util.List;
-import java.util.Objects;
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import com.nhnacademy.marketgg.gateway.util.ClientIpUtils;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
-import lombok.extern.slf4j.Slf4j;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
-@Slf4j
+/**
+ * 클라이언트 IP 헤더를 읽어 접근 로그에 넘겨주는 필터입니다.
+ * 클라이언트 IP 는 RateLimitFilter 와 같이 {@link ClientIpUtils} 로 신뢰 프록시가 남긴 값만 사용합니다.
+ */
 @Component
 public class HeaderFilter extends AbstractGatewayFilterFactory<HeaderFilter.Config> {
 
-    public HeaderFilter() {
+    private final GatewayMetrics metrics;
+
+    public HeaderFilter(GatewayMetrics metrics) {
         super(Config.class);
+        this.metrics = metrics;
     }
 
     @Override
     public GatewayFilter apply(Config config) {
         return ((exchange, chain) -> {
+            long start = System.nanoTime();
 
-            ServerHttpRequest request = exchange.getRequest();
-            HttpHeaders headers = request.getHeaders();
-
-            List<String> forwardedFor = headers.get(config.getForwardedFor());
-
-            if (Objects.nonNull(forwardedFor) && Objects.nonNull(forwardedFor.get(0))) {
-                log.info("{}: {}", config.getForwardedFor(), forwardedFor.get(0));
-                log.info("URI: {}", request.getURI());
-            }
+            exchange.getAttributes().put(AccessLogFilter.CLIENT_IP_ATTR,
+                                         ClientIpUtils.clientIp(exchange.getRequest(), config.getForwardedFor(),
+                                                                config.getTrustedProxies()));
 
+            metrics.recordHeaderFilter(System.nanoTime() - start);
 
             return chain.filter(exchange);
         });
@@ -44,7 +43,20 @@ public class HeaderFilter extends AbstractGatewayFilterFactory<HeaderFilter.Conf
     @AllArgsConstructor
     @Getter
     public static class Config {
+
+        private static final int DEFAULT_TRUSTED_PROXIES = 1;
+
         private final String forwardedFor;
+
+        /**
+         * 게이트웨이 앞의 신뢰 프록시 수이며, RateLimitFilter 의 trustedProxies 와 같은 값을 사용합니다.
+         */
+        private final int trustedProxies;
+
+        public Config(String forwardedFor) {
+            this(forwardedFor, DEFAULT_TRUSTED_PROXIES);
+        }
+
     }
 
 }
@@ -1,17 +1,25 @@
 package com.nhnacademy.marketgg.gateway.filter;
 
-import com.nhnacademy.marketgg.gateway.jwt.JwtUtils;
-import com.nhnacademy.marketgg.gateway.util.SecureUtils;
-import java.security.Key;
+import com.nhnacademy.marketgg.gateway.jwt.JwtKeyRing;
+import com.nhnacademy.marketgg.gateway.jwt.TokenOutcome;
+import com.nhnacademy.marketgg.gateway.jwt.TokenVerification;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaims;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedTokenCache;
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import com.nhnacademy.marketgg.gateway.revocation.RevocationChecker;
+import com.nhnacademy.marketgg.gateway.revocation.SessionEpochChecker;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
 
 /**
  * JWT 토큰을 이용한 인증을 해주는 필터입니다.
@@ -23,24 +31,42 @@ import org.springframework.stereotype.Component;
 public class JwtAuthorizationFilter
     extends AbstractGatewayFilterFactory<JwtAuthorizationFilter.Config> {
 
+    /**
+     * 서명, 로그아웃 여부 검증을 모두 통과한 토큰의 {@link VerifiedClaims} 를 담는 exchange 속성 이름입니다.
+     * 요청 헤더의 AUTH-ID, WWW-Authenticate 는 클라이언트가 보낼 수도 있으므로, 사용자와 권한은 이 속성으로 판단해야 합니다.
+     */
+    public static final String CLAIMS_ATTR = JwtAuthorizationFilter.class.getName() + ".claims";
+
     private static final int HEADER_BEARER = 7;
 
-    private final Key key;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final JwtKeyRing keyRing;
+    private final RevocationChecker revocationChecker;
+    private final SessionEpochChecker sessionEpochChecker;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final GatewayMetrics metrics;
+    private final Function<String, Optional<VerifiedClaims>> verifier = this::verify;
 
     /**
      * 생성자입니다.
      *
-     * @param jwtSecretUrl  - Secure Manager 에서 JWt Secret Key 를 요청하는 URL 입니다.
-     * @param redisTemplate - 스프링 빈에 등록된 RedisTemplate 을 주입받습니다.
+     * @param keyRing             - JWT 서명 검증에 쓰이는 키 링입니다.
+     * @param revocationChecker   - 로그아웃된 토큰인지 비동기로 확인합니다.
+     * @param sessionEpochChecker - 사용자의 마지막 로그아웃 이전에 발급된 토큰인지 확인합니다.
+     * @param verifiedTokenCache  - 서명 검증을 마친 토큰을 보관하는 캐시입니다.
+     * @param metrics             - 단계별 처리 시간과 인증 결과를 기록합니다.
      */
-    public JwtAuthorizationFilter(@Value("${gg.jwt.secret-url}") String jwtSecretUrl,
-                                  RedisTemplate<String, Object> redisTemplate,
-                                  SecureUtils secureUtils) {
+    public JwtAuthorizationFilter(JwtKeyRing keyRing,
+                                  RevocationChecker revocationChecker,
+                                  SessionEpochChecker sessionEpochChecker,
+                                  VerifiedTokenCache verifiedTokenCache,
+                                  GatewayMetrics metrics) {
 
         super(Config.class);
-        this.key = JwtUtils.getKey(secureUtils.getClientHttpConnector(), jwtSecretUrl);
-        this.redisTemplate = redisTemplate;
+        this.keyRing = keyRing;
+        this.revocationChecker = revocationChecker;
+        this.sessionEpochChecker = sessionEpochChecker;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.metrics = metrics;
     }
 
     @Override
@@ -55,29 +81,86 @@ public class JwtAuthorizationFilter
             String authorizationHeader = Objects.requireNonNull(headers.get(HttpHeaders.AUTHORIZATION)).get(0);
 
             String jwt = authorizationHeader.substring(HEADER_BEARER);
+            long revocationStart = System.nanoTime();
+
+            return revocationChecker.isRevoked(jwt)
+                                    .doOnSuccess(
+                                        revoked -> metrics.recordRevocation(System.nanoTime() - revocationStart))
+                                    .flatMap(revoked -> {
+                                        if (Boolean.TRUE.equals(revoked)) {
+                                            log.info("로그아웃된 사용자");
+                                            metrics.recordTokenOutcome(TokenOutcome.REVOKED);
+                                            verifiedTokenCache.invalidate(jwt);
+
+                                            return chain.filter(exchange);
+                                        }
+
+                                        return this.authorize(exchange, chain, jwt);
+                                    });
+        };
+    }
 
-            if (Objects.nonNull(redisTemplate.opsForValue().get(jwt))) {
-                log.info("로그아웃된 사용자");
+    private Mono<Void> authorize(ServerWebExchange exchange, GatewayFilterChain chain, String jwt) {
+        long verificationStart = System.nanoTime();
+        Optional<VerifiedClaims> verified = verifiedTokenCache.get(jwt, verifier);
+        metrics.recordVerification(System.nanoTime() - verificationStart);
 
-                return chain.filter(exchange);
-            }
+        if (verified.isEmpty()) {
+            return chain.filter(exchange);
+        }
 
-            Optional<String> token = Optional.ofNullable(JwtUtils.parseToken(jwt, key));
+        VerifiedClaims claims = verified.get();
 
-            if (token.isEmpty()) {
-                return chain.filter(exchange);
-            }
+        if (!sessionEpochChecker.isEnabled()) {
+            return this.forward(exchange, chain, claims);
+        }
 
-            log.info("JWT = {}", jwt);
+        long epochStart = System.nanoTime();
 
-            exchange.getRequest()
-                    .mutate()
-                    .header("AUTH-ID", JwtUtils.getUuid(jwt, key))
-                    .header("WWW-Authenticate", JwtUtils.getRoles(jwt, key))
-                    .build();
+        return sessionEpochChecker.isRevoked(claims)
+                                  .doOnSuccess(revoked -> metrics.recordEpoch(System.nanoTime() - epochStart))
+                                  .flatMap(revoked -> {
+                                      if (Boolean.TRUE.equals(revoked)) {
+                                          log.info("로그아웃된 사용자");
+                                          metrics.recordTokenOutcome(TokenOutcome.REVOKED);
 
-            return chain.filter(exchange);
-        };
+                                          return chain.filter(exchange);
+                                      }
+
+                                      return this.forward(exchange, chain, claims);
+                                  });
+    }
+
+    /**
+     * 캐시에 없는 토큰의 서명을 검증합니다.
+     * 실패한 결과는 캐시되지 않아 요청마다 이곳을 거치므로 여기서 기록하고, VALID 는 캐시 적중과 함께 {@link #forward} 에서 기록합니다.
+     */
+    private Optional<VerifiedClaims> verify(String token) {
+        TokenVerification verification = keyRing.verify(token);
+
+        if (!verification.isValid()) {
+            metrics.recordTokenOutcome(verification.getOutcome());
+        }
+
+        return Optional.ofNullable(verification.getClaims());
+    }
+
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, VerifiedClaims claims) {
+        metrics.recordTokenOutcome(TokenOutcome.VALID);
+
+        exchange.getAttributes().put(CLAIMS_ATTR, claims);
+        exchange.getAttributes().put(AccessLogFilter.AUTH_ID_ATTR, claims.getSubject());
+
+        long mutationStart = System.nanoTime();
+        ServerHttpRequest request = exchange.getRequest()
+                                            .mutate()
+                                            .header("AUTH-ID", claims.getSubject())
+                                            .header("WWW-Authenticate", claims.getRolesHeader())
+                                            .build();
+        ServerWebExchange mutated = exchange.mutate().request(request).build();
+        metrics.recordMutation(System.nanoTime() - mutationStart);
+
+        return chain.filter(mutated);
     }
 
     /**
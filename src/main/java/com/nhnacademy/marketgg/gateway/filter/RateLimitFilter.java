@@ -0,0 +1,127 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaims;
+import com.nhnacademy.marketgg.gateway.ratelimit.PermitLeaser;
+import com.nhnacademy.marketgg.gateway.ratelimit.RateLimit;
+import com.nhnacademy.marketgg.gateway.util.ClientIpUtils;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 사용자별 요청 처리율을 제한하는 필터입니다.
+ * 사용자와 권한은 {@link JwtAuthorizationFilter} 가 검증한 클레임({@link JwtAuthorizationFilter#CLAIMS_ATTR})으로 판단하고,
+ * 인증되지 않은 요청은 클라이언트 IP 로 구분합니다. 따라서 라우트에서 JwtAuthorizationFilter 뒤에 두어야 합니다.
+ * 요청 헤더의 AUTH-ID, WWW-Authenticate 는 클라이언트가 보낼 수 있으므로 사용하지 않습니다.
+ * 클라이언트 IP 는 {@code forwarded-for} 헤더에서 {@code trusted-proxies} 개의 신뢰 프록시가 남긴 값만 사용합니다.
+ *
+ * <pre>
+ * filters:
+ *   - JwtAuthorizationFilter
+ *   - name: RateLimitFilter
+ *     args:
+ *       replenish-rate: 10
+ *       burst-capacity: 20
+ *       roles:
+ *         ROLE_ADMIN:
+ *           replenish-rate: 100
+ *           burst-capacity: 200
+ * </pre>
+ */
+@Component
+public class RateLimitFilter extends AbstractGatewayFilterFactory<RateLimitFilter.Config> {
+
+    private final PermitLeaser permitLeaser;
+
+    public RateLimitFilter(PermitLeaser permitLeaser) {
+        super(Config.class);
+        this.permitLeaser = permitLeaser;
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            VerifiedClaims claims = exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR);
+            RateLimit limit = this.resolveLimit(config, claims);
+            String key = this.routeId(exchange) + ":" + this.identity(config, exchange, claims);
+
+            return permitLeaser.acquire(key, limit)
+                               .flatMap(allowed -> {
+                                   if (Boolean.TRUE.equals(allowed)) {
+                                       return chain.filter(exchange);
+                                   }
+
+                                   exchange.getResponse().setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+
+                                   return exchange.getResponse().setComplete();
+                               });
+        };
+    }
+
+    private RateLimit resolveLimit(Config config, VerifiedClaims claims) {
+        if (Objects.isNull(claims) || config.getRoles().isEmpty()) {
+            return config;
+        }
+
+        RateLimit resolved = config;
+        for (Map.Entry<String, RateLimit> entry : config.getRoles().entrySet()) {
+            boolean granted = claims.getAuthorities().contains(entry.getKey());
+
+            if (granted && entry.getValue().getReplenishRate() > resolved.getReplenishRate()) {
+                resolved = entry.getValue();
+            }
+        }
+
+        return resolved;
+    }
+
+    private String identity(Config config, ServerWebExchange exchange, VerifiedClaims claims) {
+        if (Objects.nonNull(claims)) {
+            return "user:" + claims.getSubject();
+        }
+
+        return "ip:" + ClientIpUtils.clientIp(exchange.getRequest(), config.getForwardedFor(),
+                                              config.getTrustedProxies());
+    }
+
+    private String routeId(ServerWebExchange exchange) {
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+
+        return Objects.nonNull(route) ? route.getId() : "default";
+    }
+
+    /**
+     * 설정 생성자.
+     */
+    @Getter
+    @Setter
+    public static class Config extends RateLimit {
+
+        /**
+         * 클라이언트 IP 를 담은 헤더 이름이며, HeaderFilter 의 forwardedFor 와 같은 값을 사용합니다.
+         */
+        private String forwardedFor = "X-Forwarded-For";
+
+        /**
+         * 게이트웨이 앞에서 {@code forwarded-for} 헤더에 주소를 덧붙이는 신뢰 프록시(NGINX 등) 수입니다.
+         * 0 이면 헤더를 무시하고 연결의 원격 주소를 사용합니다.
+         */
+        private int trustedProxies = 1;
+
+        /**
+         * 권한별 제한입니다. 사용자가 여러 권한을 가지면 충전량이 가장 큰 제한을 적용합니다.
+         */
+        private Map<String, RateLimit> roles = new LinkedHashMap<>();
+
+    }
+
+}
@@ -0,0 +1,296 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import com.nhnacademy.marketgg.gateway.cache.CachedResponse;
+import com.nhnacademy.marketgg.gateway.cache.CapturingResponseDecorator;
+import com.nhnacademy.marketgg.gateway.cache.ResponseCacheStore;
+import com.nhnacademy.marketgg.gateway.util.RequestKeyUtils;
+import com.nhnacademy.marketgg.gateway.util.TokenHashUtils;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.factory.AbstractGatewayFilterFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * GET 응답을 로컬과 Redis 두 계층에 캐시하는 필터입니다. 캐시 적중 시 뒤의 필터와 백엔드를 거치지 않습니다.
+ *
+ * <pre>
+ * filters:
+ *   - JwtAuthorizationFilter
+ *   - name: ResponseCacheFilter
+ *     args:
+ *       ttl: 30s
+ * </pre>
+ *
+ * <p>캐시 키는 라우트, 경로, 쿼리, {@link JwtAuthorizationFilter} 가 검증한 사용자, {@code vary-headers} 값으로 만듭니다.
+ * Authorization, AUTH-ID 헤더가 있지만 검증된 클레임이 없는 요청은 캐시를 조회하지도 저장하지도 않습니다.
+ * 따라서 인증된 요청까지 캐시하려면 JwtAuthorizationFilter 뒤에 두어야 하며, 앞에 두면 인증 헤더가 없는 요청만 캐시합니다.
+ * 백엔드의 Cache-Control 을 따르며(no-store, private, no-cache 는 저장하지 않고 s-maxage, max-age 가 ttl 보다 짧으면 그 값을 사용),
+ * 인증된 요청의 응답은 백엔드가 public 또는 s-maxage 로 공유를 허용한 경우에만 저장합니다.
+ * 저장된 응답에 ETag 가 없으면 본문 해시로 만들고, If-None-Match 가 일치하면 304 로 응답합니다.
+ */
+@Component
+public class ResponseCacheFilter extends AbstractGatewayFilterFactory<ResponseCacheFilter.Config> {
+
+    private static final String KEY_PREFIX = "gg:rc:";
+    private static final String CACHE_STATUS = "X-Gateway-Cache";
+    private static final int ETAG_LENGTH = 16;
+
+    private final ResponseCacheStore store;
+    private final Counter hits;
+    private final Counter notModified;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param store         - 두 계층 응답 캐시 저장소입니다.
+     * @param meterRegistry - 캐시 결과를 기록할 MeterRegistry 입니다.
+     */
+    public ResponseCacheFilter(ResponseCacheStore store, MeterRegistry meterRegistry) {
+        super(Config.class);
+        this.store = store;
+        this.hits = this.resultCounter(meterRegistry, "hit");
+        this.notModified = this.resultCounter(meterRegistry, "not_modified");
+        this.misses = this.resultCounter(meterRegistry, "miss");
+        this.bypasses = this.resultCounter(meterRegistry, "bypass");
+    }
+
+    @Override
+    public GatewayFilter apply(Config config) {
+        return (exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            String cacheControl = Objects.toString(request.getHeaders().getCacheControl(), "");
+
+            if (request.getMethod() != HttpMethod.GET || hasDirective(cacheControl, "no-store")
+                || (RequestKeyUtils.hasCredentials(request.getHeaders())
+                    && !RequestKeyUtils.isAuthenticated(exchange))) {
+
+                bypasses.increment();
+                return chain.filter(exchange);
+            }
+
+            String key = RequestKeyUtils.key(KEY_PREFIX, exchange, config.getVaryHeaders());
+            Mono<CachedResponse> lookup = hasDirective(cacheControl, "no-cache") ? Mono.empty() : store.get(key);
+
+            return lookup.map(Optional::of)
+                         .defaultIfEmpty(Optional.empty())
+                         .flatMap(cached -> cached.isPresent()
+                             ? this.writeCached(exchange, cached.get())
+                             : this.fetch(exchange, chain, key, config));
+        };
+    }
+
+    private Mono<Void> writeCached(ServerWebExchange exchange, CachedResponse cached) {
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        long now = System.currentTimeMillis();
+
+        cached.getHeaders().forEach(headers::set);
+        headers.set(HttpHeaders.AGE, Long.toString(Math.max(0L, (now - cached.getStoredAt()) / 1000)));
+        headers.set(CACHE_STATUS, "HIT");
+
+        if (matches(exchange.getRequest().getHeaders().getIfNoneMatch(), cached.getETag())) {
+            notModified.increment();
+            response.setStatusCode(HttpStatus.NOT_MODIFIED);
+
+            return response.setComplete();
+        }
+
+        hits.increment();
+        response.setRawStatusCode(cached.getStatus());
+        headers.setContentLength(cached.getBody().length);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(cached.getBody())));
+    }
+
+    private Mono<Void> fetch(ServerWebExchange exchange, GatewayFilterChain chain, String key, Config config) {
+        misses.increment();
+
+        ServerHttpResponse response = exchange.getResponse();
+        boolean authenticated = RequestKeyUtils.isAuthenticated(exchange);
+
+        response.getHeaders().set(CACHE_STATUS, "MISS");
+
+        CapturingResponseDecorator capturing =
+            new CapturingResponseDecorator(response, config.getMaxBodySize(),
+                                           body -> this.store(key, response, body, config, authenticated),
+                                           () -> {
+                                           });
+
+        return chain.filter(exchange.mutate().response(capturing).build());
+    }
+
+    private void store(String key, ServerHttpResponse response, byte[] body, Config config,
+                       boolean authenticated) {
+
+        HttpHeaders headers = response.getHeaders();
+        Integer status = response.getRawStatusCode();
+
+        if (!Objects.equals(status, HttpStatus.OK.value()) || headers.containsKey(HttpHeaders.SET_COOKIE)) {
+            return;
+        }
+
+        Duration ttl = this.ttl(headers, config, authenticated);
+
+        if (ttl.isZero() || !this.isVaryCovered(headers, config)) {
+            return;
+        }
+
+        Map<String, String> stored = new LinkedHashMap<>();
+        for (String name : CachedResponse.STORED_HEADERS) {
+            String value = headers.getFirst(name);
+
+            if (Objects.nonNull(value)) {
+                stored.put(name, value);
+            }
+        }
+        stored.putIfAbsent(HttpHeaders.ETAG,
+                           "\"" + TokenHashUtils.encode(TokenHashUtils.digest(body)).substring(0, ETAG_LENGTH) + "\"");
+
+        long now = System.currentTimeMillis();
+        store.put(key, new CachedResponse(status, stored, body, now, now + ttl.toMillis()));
+    }
+
+    private Duration ttl(HttpHeaders headers, Config config, boolean authenticated) {
+        String cacheControl = Objects.toString(headers.getCacheControl(), "");
+
+        if (hasDirective(cacheControl, "no-store") || hasDirective(cacheControl, "private")
+            || hasDirective(cacheControl, "no-cache")) {
+
+            return Duration.ZERO;
+        }
+
+        long sharedMaxAge = maxAge(cacheControl, "s-maxage");
+        long maxAge = sharedMaxAge >= 0 ? sharedMaxAge : maxAge(cacheControl, "max-age");
+
+        if (authenticated && sharedMaxAge < 0 && !hasDirective(cacheControl, "public")) {
+            return Duration.ZERO;
+        }
+
+        if (maxAge < 0) {
+            return config.getTtl();
+        }
+
+        Duration upstream = Duration.ofSeconds(maxAge);
+
+        return upstream.compareTo(config.getTtl()) < 0 ? upstream : config.getTtl();
+    }
+
+    private boolean isVaryCovered(HttpHeaders headers, Config config) {
+        for (String vary : headers.getVary()) {
+            boolean covered = config.getVaryHeaders()
+                                    .stream()
+                                    .anyMatch(name -> name.equalsIgnoreCase(vary.trim()));
+
+            if (!covered) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean hasDirective(String cacheControl, String directive) {
+        return Objects.nonNull(directive(cacheControl, directive));
+    }
+
+    private static long maxAge(String cacheControl, String directive) {
+        String value = directive(cacheControl, directive);
+
+        if (Objects.isNull(value)) {
+            return -1L;
+        }
+
+        try {
+            return Long.parseLong(value.startsWith("\"") ? value.replace("\"", "") : value);
+        } catch (NumberFormatException ex) {
+            return -1L;
+        }
+    }
+
+    /**
+     * Cache-Control 을 쉼표로 나눈 지시어 중 이름이 같은 첫 지시어의 값을 반환합니다.
+     *
+     * @return 값이 없는 지시어는 빈 문자열, 지시어가 없으면 null
+     */
+    private static String directive(String cacheControl, String name) {
+        for (String token : cacheControl.split(",")) {
+            int separator = token.indexOf('=');
+            String directive = (separator < 0 ? token : token.substring(0, separator)).trim();
+
+            if (directive.equalsIgnoreCase(name)) {
+                return separator < 0 ? "" : token.substring(separator + 1).trim();
+            }
+        }
+
+        return null;
+    }
+
+    private static boolean matches(List<String> ifNoneMatch, String etag) {
+        if (Objects.isNull(etag) || ifNoneMatch.isEmpty()) {
+            return false;
+        }
+
+        String opaque = stripWeak(etag);
+
+        return ifNoneMatch.stream()
+                          .anyMatch(candidate -> "*".equals(candidate) || stripWeak(candidate).equals(opaque));
+    }
+
+    private static String stripWeak(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private Counter resultCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("gg.response-cache.requests")
+                      .description("응답 캐시 처리 결과")
+                      .tag("result", result)
+                      .register(meterRegistry);
+    }
+
+    /**
+     * 설정 생성자.
+     */
+    @Getter
+    @Setter
+    public static class Config {
+
+        /**
+         * 백엔드가 max-age 를 주지 않았을 때의 유효 시간이자 최대 유효 시간입니다.
+         */
+        private Duration ttl = Duration.ofSeconds(60);
+
+        /**
+         * 캐시할 최대 본문 크기(바이트)입니다.
+         */
+        private int maxBodySize = 1024 * 1024;
+
+        /**
+         * 캐시 키에 포함할 요청 헤더입니다. 백엔드의 Vary 헤더가 이 목록 밖의 헤더를 가리키면 저장하지 않습니다.
+         */
+        private List<String> varyHeaders = new ArrayList<>(List.of(HttpHeaders.ACCEPT,
+                                                                   HttpHeaders.ACCEPT_ENCODING,
+                                                                   HttpHeaders.ACCEPT_LANGUAGE));
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.marketgg.gateway.handler;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nhnacademy.marketgg.gateway.entity.ErrorEntity;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 오류 응답 본문을 상태 코드별로 한 번만 직렬화해 두고 재사용합니다.
+ * 장애 중 같은 오류가 쏟아져도 요청마다 ObjectMapper 를 거치지 않습니다.
+ */
+@Component
+public class ErrorResponses {
+
+    private final Map<HttpStatus, byte[]> bodies;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param objectMapper - 오류 본문을 직렬화할 ObjectMapper 입니다.
+     */
+    public ErrorResponses(ObjectMapper objectMapper) {
+        Map<HttpStatus, byte[]> serialized = new EnumMap<>(HttpStatus.class);
+
+        for (HttpStatus status : HttpStatus.values()) {
+            if (status.isError()) {
+                serialized.put(status, this.serialize(objectMapper, status));
+            }
+        }
+
+        this.bodies = Collections.unmodifiableMap(serialized);
+    }
+
+    /**
+     * 미리 직렬화된 오류 응답을 씁니다.
+     *
+     * @param response - 응답입니다.
+     * @param status   - 오류 상태 코드입니다.
+     * @return 응답 쓰기가 끝나면 완료되는 Mono
+     */
+    public Mono<Void> write(ServerHttpResponse response, HttpStatus status) {
+        byte[] body = bodies.getOrDefault(status, bodies.get(HttpStatus.INTERNAL_SERVER_ERROR));
+
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+
+    private byte[] serialize(ObjectMapper objectMapper, HttpStatus status) {
+        try {
+            return objectMapper.writeValueAsBytes(new ErrorEntity(status.getReasonPhrase()));
+        } catch (JsonProcessingException e) {
+            return "Error".getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+}
@@ -1,48 +1,98 @@
 package com.nhnacademy.marketgg.gateway.handler;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.nhnacademy.marketgg.gateway.entity.ErrorEntity;
-import java.nio.charset.StandardCharsets;
-import lombok.RequiredArgsConstructor;
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import com.nhnacademy.marketgg.gateway.util.ErrorStatusUtils;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.reactive.error.ErrorWebExceptionHandler;
 import org.springframework.core.annotation.Order;
-import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
  * Gateway 에서 발생한 예외를 처리합니다.
+ * 예외를 502/503/504 등 알맞은 상태 코드로 변환하고, 미리 직렬화된 오류 본문으로 응답합니다.
+ * 스택 트레이스는 예외 타입별로 {@code gg.error.stack-trace-interval} 에 한 번만 남기고, 그 사이의 예외는 건수만 셉니다.
  */
 @Slf4j
 @Order(-1)
 @Component
-@RequiredArgsConstructor
 public class WebExceptionHandler implements ErrorWebExceptionHandler {
 
-    private final ObjectMapper objectMapper;
+    private final ErrorResponses errorResponses;
+    private final GatewayMetrics metrics;
+    private final long stackTraceIntervalNanos;
+
+    private final Map<Class<?>, LogWindow> logWindows = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자입니다.
+     *
+     * @param errorResponses     - 상태 코드별로 미리 직렬화된 오류 응답입니다.
+     * @param metrics            - 예외 처리 시간을 기록합니다.
+     * @param stackTraceInterval - 같은 타입의 예외 스택 트레이스를 남기는 최소 간격입니다.
+     */
+    public WebExceptionHandler(ErrorResponses errorResponses, GatewayMetrics metrics,
+                               @Value("${gg.error.stack-trace-interval:10s}") Duration stackTraceInterval) {
+
+        this.errorResponses = errorResponses;
+        this.metrics = metrics;
+        this.stackTraceIntervalNanos = stackTraceInterval.toNanos();
+    }
 
     @Override
     public Mono<Void> handle(ServerWebExchange exchange, Throwable ex) {
-        log.error("", ex);
-        ErrorEntity error = new ErrorEntity(ex.getMessage());
-
-        byte[] bytes;
-        try {
-            bytes = objectMapper.writeValueAsBytes(error);
-        } catch (JsonProcessingException e) {
-            bytes = "Error".getBytes(StandardCharsets.UTF_8);
+        if (exchange.getResponse().isCommitted()) {
+            return Mono.error(ex);
+        }
+
+        long start = System.nanoTime();
+        HttpStatus status = ErrorStatusUtils.resolve(ex);
+
+        this.log(ex, status);
+
+        Mono<Void> written = errorResponses.write(exchange.getResponse(), status);
+        metrics.recordErrorHandling(ex, System.nanoTime() - start);
+
+        return written;
+    }
+
+    private void log(Throwable ex, HttpStatus status) {
+        if (status.is4xxClientError()) {
+            log.debug("요청 오류입니다. status: {}, {}", status.value(), ex.toString());
+            return;
         }
 
-        DataBuffer buffer = exchange.getResponse().bufferFactory().wrap(bytes);
-        exchange.getResponse().setStatusCode(HttpStatus.INTERNAL_SERVER_ERROR);
+        LogWindow window = logWindows.computeIfAbsent(ex.getClass(), type -> new LogWindow(stackTraceIntervalNanos));
+        long now = System.nanoTime();
+        long last = window.lastLogged.get();
+
+        if (now - last >= stackTraceIntervalNanos && window.lastLogged.compareAndSet(last, now)) {
+            log.error("요청 처리 중 예외가 발생했습니다. status: {}, 생략된 같은 예외: {} 건",
+                      status.value(), window.suppressed.getAndSet(0), ex);
+        } else {
+            window.suppressed.incrementAndGet();
+        }
+    }
+
+    /**
+     * 예외 타입별 마지막 기록 시각과 그 뒤로 생략한 건수입니다.
+     */
+    private static final class LogWindow {
+
+        private final AtomicLong lastLogged;
+        private final AtomicLong suppressed = new AtomicLong();
+
+        LogWindow(long intervalNanos) {
+            this.lastLogged = new AtomicLong(System.nanoTime() - intervalNanos);
+        }
 
-        return exchange.getResponse()
-                       .writeWith(Flux.just(buffer));
     }
 
 }
@@ -0,0 +1,225 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import com.nhnacademy.marketgg.gateway.secret.GatewaySecrets;
+import com.nhnacademy.marketgg.gateway.secret.SecretBootstrap;
+import com.nhnacademy.marketgg.gateway.util.TokenHashUtils;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import java.security.Key;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * JWT 서명 검증에 쓰이는 현재 키와 직전 키를 보관합니다.
+ * Secure Manager 에서 주기적으로 JWT Secret 을 다시 받아오며, 값이 바뀌면 재기동 없이 새 키로 교체합니다.
+ * 비밀 값 스냅샷으로 기동한 뒤 {@link SecretBootstrap#changes()} 로 바뀐 JWT Secret 이 전달되어도 바로 교체합니다.
+ *
+ * <p>키와 JwtParser 는 불변 스냅샷으로 묶여 volatile 참조 하나로 교체되므로, 검증 경로에는 잠금이 없습니다.
+ * 토큰에 {@code kid} 헤더가 있으면 해당 키로 검증합니다. {@code kid} 는 키 바이트의 SHA-256 을 Base64 URL 로 인코딩한 값의
+ * 앞 8 자입니다.
+ * {@code kid} 가 없는 토큰은 현재 키로 검증하고, 서명이 맞지 않으면 직전 키로 한 번 더 검증합니다.
+ */
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private static final int KEY_ID_LENGTH = 8;
+
+    private final SecretBootstrap secretBootstrap;
+    private final Duration refreshInterval;
+
+    private volatile KeySet keySet;
+
+    private Disposable refresher;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param secretBootstrap - Secure Manager 에서 받아온 JWT Secret 을 제공합니다.
+     * @param refreshInterval - JWT Secret 을 다시 받아오는 주기입니다.
+     */
+    @Autowired
+    public JwtKeyRing(SecretBootstrap secretBootstrap,
+                      @Value("${gg.jwt.key-refresh-interval:5m}") Duration refreshInterval) {
+
+        this(secretBootstrap, refreshInterval, JwtUtils.getKey(secretBootstrap.getSecrets().getJwtSecret()));
+    }
+
+    private JwtKeyRing(SecretBootstrap secretBootstrap, Duration refreshInterval, Key key) {
+        this.secretBootstrap = secretBootstrap;
+        this.refreshInterval = refreshInterval;
+        this.keySet = new KeySet(key, null);
+    }
+
+    /**
+     * 갱신하지 않는 고정 키로 키 링을 생성합니다.
+     *
+     * @param key - JWT 서명 검증에 쓰이는 Key 입니다.
+     * @return JwtKeyRing
+     */
+    public static JwtKeyRing of(Key key) {
+        return new JwtKeyRing(null, null, key);
+    }
+
+    /**
+     * 키의 식별자(kid)를 계산합니다.
+     *
+     * @param key - JWT 서명에 쓰이는 Key 입니다.
+     * @return kid
+     */
+    public static String keyId(Key key) {
+        return TokenHashUtils.encode(TokenHashUtils.digest(key.getEncoded()))
+                             .substring(0, KEY_ID_LENGTH);
+    }
+
+    /**
+     * 주기적인 키 갱신을 시작합니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (Objects.isNull(secretBootstrap)) {
+            return;
+        }
+
+        Flux<String> periodic =
+            Flux.interval(refreshInterval)
+                .concatMap(tick -> secretBootstrap.fetchSecret(secretBootstrap.getJwtSecretUrl())
+                                                  .onErrorResume(ex -> {
+                                                      log.warn("JWT Secret 갱신에 실패했습니다. {}", ex.toString());
+                                                      return Mono.empty();
+                                                  }));
+        Flux<String> swapped = secretBootstrap.changes()
+                                              .map(GatewaySecrets::getJwtSecret);
+
+        this.refresher = Flux.merge(swapped, periodic)
+                             .subscribe(secret -> this.rotate(JwtUtils.getKey(secret)));
+    }
+
+    /**
+     * 주기적인 키 갱신을 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(refresher)) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * 새 키를 현재 키로 교체하고, 기존 현재 키는 직전 키로 보관합니다.
+     * 현재 키와 같은 키이면 아무것도 하지 않습니다.
+     *
+     * @param key - 새 JWT 서명 키입니다.
+     */
+    public synchronized void rotate(Key key) {
+        KeySet current = this.keySet;
+        String keyId = keyId(key);
+
+        if (keyId.equals(current.currentKeyId)) {
+            return;
+        }
+
+        this.keySet = new KeySet(key, current.current);
+        log.info("JWT 서명 키를 교체했습니다. kid: {} -> {}", current.currentKeyId, keyId);
+    }
+
+    /**
+     * 현재 키의 식별자를 반환합니다.
+     *
+     * @return kid
+     */
+    public String getCurrentKeyId() {
+        return keySet.currentKeyId;
+    }
+
+    /**
+     * 토큰의 서명을 검증합니다.
+     * 직전 키가 있으면 현재 키의 결과가 서명 오류일 때만 직전 키로 다시 검증하며, 마지막 검증 결과를 반환합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return 검증 결과이며, 사용가능한 토큰이면 검증된 클레임을 담습니다.
+     */
+    public TokenVerification verify(String token) {
+        KeySet current = this.keySet;
+        TokenVerification verification = JwtUtils.verifyWithOutcome(token, current.parser);
+
+        if (verification.getOutcome() == TokenOutcome.INVALID_SIGNATURE && Objects.nonNull(current.previousParser)) {
+            return JwtUtils.verifyWithOutcome(token, current.previousParser);
+        }
+
+        return verification;
+    }
+
+    /**
+     * 한 시점의 현재 키와 직전 키, 그리고 이를 사용하는 JwtParser 의 불변 스냅샷입니다.
+     */
+    private static final class KeySet {
+
+        private final Key current;
+        private final String currentKeyId;
+        private final JwtParser parser;
+        private final JwtParser previousParser;
+
+        KeySet(Key current, Key previous) {
+            Map<String, Key> keys = new HashMap<>();
+            keys.put(keyId(current), current);
+
+            if (Objects.nonNull(previous)) {
+                keys.put(keyId(previous), previous);
+            }
+
+            this.current = current;
+            this.currentKeyId = keyId(current);
+            this.parser = Jwts.parserBuilder()
+                              .setSigningKeyResolver(new KeyIdResolver(current, Map.copyOf(keys)))
+                              .build();
+            this.previousParser = Objects.nonNull(previous) ? JwtUtils.createParser(previous) : null;
+        }
+
+    }
+
+    /**
+     * kid 헤더로 서명 검증 키를 고르며, kid 가 없거나 모르는 값이면 현재 키를 사용합니다.
+     */
+    private static final class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        private final Key current;
+        private final Map<String, Key> keys;
+
+        KeyIdResolver(Key current, Map<String, Key> keys) {
+            this.current = current;
+            this.keys = keys;
+        }
+
+        /**
+         * jjwt 0.11 의 SigningKeyResolver 는 JwsHeader 를 raw 타입으로 선언하므로, 재정의하려면 같은 raw 타입을 써야 합니다.
+         */
+        @Override
+        @SuppressWarnings("rawtypes")
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String keyId = header.getKeyId();
+
+            if (Objects.isNull(keyId)) {
+                return current;
+            }
+
+            return keys.getOrDefault(keyId, current);
+        }
+
+    }
+
+}
@@ -1,24 +1,27 @@
 package com.nhnacademy.marketgg.gateway.jwt;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import java.io.IOException;
 import java.security.Key;
-import java.time.Duration;
-import java.util.Map;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.client.reactive.ClientHttpConnector;
-import org.springframework.web.reactive.function.client.WebClient;
 
 /**
  * JWT 다루는 Util 클래스 입니다.
@@ -29,63 +32,90 @@ public class JwtUtils {
 
     public static final String AUTHORITIES = "AUTHORITIES";
 
+    private static final ObjectWriter ROLES_WRITER = new ObjectMapper().writer();
+
     /**
      * JWT 서명에 필요한 키를 생성합니다.
      *
-     * @param jwtSecretUrl - JWT Secret 을 요청하는 URL 입니다.
+     * @param jwtSecret - Secure Manager 에서 받아온 Base64 URL 인코딩된 JWT Secret 입니다.
      * @return JWT 서명에 쓰이는 Key 를 반환합니다.
      */
-    public static Key getKey(ClientHttpConnector clientHttpConnector, String jwtSecretUrl) {
-        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(getJwtSecret(clientHttpConnector, jwtSecretUrl)));
+    public static Key getKey(String jwtSecret) {
+        return Keys.hmacShaKeyFor(Decoders.BASE64URL.decode(jwtSecret));
     }
 
-    private static String getJwtSecret(ClientHttpConnector clientHttpConnector, String jwtSecretUrl) {
-        ParameterizedTypeReference<Map<String, Map<String, String>>> typeRef = new ParameterizedTypeReference<>() {
-        };
-
-        Map<String, Map<String, String>> block = WebClient.builder()
-                                                          .clientConnector(clientHttpConnector)
-                                                          .build()
-                                                          .get()
-                                                          .uri(jwtSecretUrl)
-                                                          .retrieve()
-                                                          .bodyToMono(typeRef)
-                                                          .timeout(Duration.ofSeconds(3))
-                                                          .block();
-
-        return Optional.ofNullable(block)
-                       .orElseThrow(IllegalArgumentException::new)
-                       .get("body")
-                       .get("secret");
+    /**
+     * 서명 검증에 쓰이는 JwtParser 를 생성합니다.
+     * 생성된 JwtParser 는 불변이므로 한 번 만들어 여러 스레드에서 재사용합니다.
+     *
+     * @param key - 토큰 파싱에 필요한 Key 입니다.
+     * @return JwtParser 를 반환합니다.
+     */
+    public static JwtParser createParser(Key key) {
+        return Jwts.parserBuilder()
+                   .setSigningKey(key)
+                   .build();
     }
 
     /**
-     * 토큰을 파싱하여 사용 가능한 토큰인지 확인합니다.
+     * 토큰의 서명을 한 번만 검증하고, 필터에서 필요한 값을 모두 담은 클레임을 반환합니다.
      *
-     * @param token - 사용자의 JWT 입니다.
-     * @param key   - 토큰 파싱에 필요한 Key 입니다.
-     * @return 사용가능한 JWT 를 반환합니다.
+     * @param token  - 사용자의 JWT 입니다.
+     * @param parser - 재사용되는 JwtParser 입니다.
+     * @return 사용가능한 토큰이면 검증된 클레임을, 아니면 빈 Optional 을 반환합니다.
      */
-    public static String parseToken(String token, Key key) {
-        try {
-            Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token);
-
-            return token;
+    public static Optional<VerifiedClaims> verify(String token, JwtParser parser) {
+        return Optional.ofNullable(verifyWithOutcome(token, parser).getClaims());
+    }
 
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException ex) {
+    /**
+     * 토큰의 서명을 한 번만 검증하고, 검증 결과의 종류와 클레임을 함께 반환합니다.
+     *
+     * @param token  - 사용자의 JWT 입니다.
+     * @param parser - 재사용되는 JwtParser 입니다.
+     * @return 검증 결과이며, 사용가능한 토큰이면 검증된 클레임을 담습니다.
+     */
+    public static TokenVerification verifyWithOutcome(String token, JwtParser parser) {
+        try {
+            Claims claims = parser.parseClaimsJws(token).getBody();
+            Object authorities = claims.get(AUTHORITIES);
+            Date issuedAt = claims.getIssuedAt();
+            Date expiration = claims.getExpiration();
+
+            return TokenVerification.valid(new VerifiedClaims(claims.getSubject(),
+                                                              toAuthorities(authorities),
+                                                              writeRoles(authorities),
+                                                              toInstant(issuedAt),
+                                                              toInstant(expiration)));
+
+        } catch (io.jsonwebtoken.security.SecurityException ex) {
+            log.error("잘못된 JWT 서명입니다. {}", ex.toString());
+            return TokenVerification.failed(TokenOutcome.INVALID_SIGNATURE);
+        } catch (MalformedJwtException ex) {
             log.error("잘못된 JWT 서명입니다. {}", ex.toString());
+            return TokenVerification.failed(TokenOutcome.MALFORMED);
         } catch (ExpiredJwtException ex) {
             log.error("만료된 JWT 토큰입니다. {}", ex.toString());
+            return TokenVerification.failed(TokenOutcome.EXPIRED);
         } catch (UnsupportedJwtException ex) {
             log.error("지원되지 않는 JWT 토큰입니다. {}", ex.toString());
+            return TokenVerification.failed(TokenOutcome.UNSUPPORTED);
         } catch (IllegalArgumentException ex) {
             log.error("JWT 토큰이 잘못되었습니다. {}", ex.toString());
+            return TokenVerification.failed(TokenOutcome.MALFORMED);
         }
+    }
 
-        return null;
+    /**
+     * 토큰을 파싱하여 사용 가능한 토큰인지 확인합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @param key   - 토큰 파싱에 필요한 Key 입니다.
+     * @return 사용가능한 JWT 를 반환합니다.
+     */
+    public static String parseToken(String token, Key key) {
+        return verify(token, createParser(key)).map(claims -> token)
+                                               .orElse(null);
     }
 
     /**
@@ -96,28 +126,42 @@ public class JwtUtils {
      * @return 사용자의 권한을 반환합니다.
      */
     public static String getRoles(String token, Key key) {
+        return writeRoles(getClaims(token, key).get(AUTHORITIES));
+    }
+
+    public static String getUuid(String token, Key key) {
+        return getClaims(token, key).getSubject();
+    }
+
+    private static Claims getClaims(String token, Key key) {
+        return createParser(key).parseClaimsJws(token)
+                                .getBody();
+    }
+
+    private static String writeRoles(Object authorities) {
         String roles = "";
-        ObjectMapper mapper = new ObjectMapper();
 
         try {
-            roles = mapper.writeValueAsString(getClaims(token, key).get(AUTHORITIES));
-        } catch (IOException ex) {
+            roles = ROLES_WRITER.writeValueAsString(authorities);
+        } catch (JsonProcessingException ex) {
             log.error("JSON ERROR", ex);
         }
 
         return roles;
     }
 
-    public static String getUuid(String token, Key key) {
-        return getClaims(token, key).getSubject();
+    private static Instant toInstant(Date date) {
+        return Objects.nonNull(date) ? date.toInstant() : null;
     }
 
-    private static Claims getClaims(String token, Key key) {
-        return Jwts.parserBuilder()
-                   .setSigningKey(key)
-                   .build()
-                   .parseClaimsJws(token)
-                   .getBody();
+    private static List<String> toAuthorities(Object authorities) {
+        if (authorities instanceof Collection) {
+            return ((Collection<?>) authorities).stream()
+                                                .map(String::valueOf)
+                                                .collect(Collectors.toUnmodifiableList());
+        }
+
+        return Objects.isNull(authorities) ? List.of() : List.of(String.valueOf(authorities));
     }
 
 }
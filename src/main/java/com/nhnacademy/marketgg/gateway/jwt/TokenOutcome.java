@@ -0,0 +1,15 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+/**
+ * JWT 인증 결과의 종류입니다.
+ */
+public enum TokenOutcome {
+
+    VALID,
+    EXPIRED,
+    INVALID_SIGNATURE,
+    MALFORMED,
+    UNSUPPORTED,
+    REVOKED
+
+}
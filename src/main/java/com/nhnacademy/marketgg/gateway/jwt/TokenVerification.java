@@ -0,0 +1,46 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import java.util.EnumMap;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 토큰 서명 검증 결과의 종류와, 성공했을 때의 클레임입니다.
+ * 실패 결과는 종류별로 하나씩 미리 만들어 두므로, 실패한 검증은 결과 객체를 새로 만들지 않습니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public final class TokenVerification {
+
+    private static final Map<TokenOutcome, TokenVerification> FAILURES = new EnumMap<>(TokenOutcome.class);
+
+    static {
+        for (TokenOutcome outcome : TokenOutcome.values()) {
+            if (outcome != TokenOutcome.VALID) {
+                FAILURES.put(outcome, new TokenVerification(outcome, null));
+            }
+        }
+    }
+
+    private final TokenOutcome outcome;
+
+    /**
+     * 검증된 클레임이며, 검증에 실패했으면 null 입니다.
+     */
+    private final VerifiedClaims claims;
+
+    static TokenVerification valid(VerifiedClaims claims) {
+        return new TokenVerification(TokenOutcome.VALID, claims);
+    }
+
+    static TokenVerification failed(TokenOutcome outcome) {
+        return FAILURES.get(outcome);
+    }
+
+    public boolean isValid() {
+        return outcome == TokenOutcome.VALID;
+    }
+
+}
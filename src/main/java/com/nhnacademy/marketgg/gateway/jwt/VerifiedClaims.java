@@ -0,0 +1,42 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import java.time.Instant;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 JWT 의 클레임입니다.
+ * 불변 객체이므로 여러 스레드에서 공유해도 안전합니다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PACKAGE)
+public final class VerifiedClaims {
+
+    /**
+     * 사용자 UUID 이며 AUTH-ID 헤더 값으로 쓰입니다.
+     */
+    private final String subject;
+
+    /**
+     * 사용자의 권한 목록입니다.
+     */
+    private final List<String> authorities;
+
+    /**
+     * JSON 으로 직렬화된 권한 목록이며 WWW-Authenticate 헤더 값으로 쓰입니다.
+     */
+    private final String rolesHeader;
+
+    /**
+     * 토큰의 발급 시각(iat)이며, 발급 시각이 없는 토큰은 null 입니다.
+     */
+    private final Instant issuedAt;
+
+    /**
+     * 토큰의 만료 시각(exp)이며, 만료 시각이 없는 토큰은 null 입니다.
+     */
+    private final Instant expiration;
+
+}
@@ -0,0 +1,119 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.nhnacademy.marketgg.gateway.util.TokenHashUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 서명 검증을 마친 토큰을 보관하는 프로세스 내 캐시입니다.
+ * 토큰 원문이 아닌 SHA-256 해시를 키로 사용하며, 항목의 유효 시간은 토큰의 만료 시각(exp)을 넘지 않습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "gg.jwt.verified-token";
+
+    private final Cache<String, VerifiedClaims> cache;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param maximumSize   - 캐시에 보관할 최대 토큰 수입니다.
+     * @param maxTtl        - 항목의 최대 유효 시간입니다.
+     * @param meterRegistry - 적중/실패/제거 횟수를 기록할 MeterRegistry 입니다.
+     */
+    public VerifiedTokenCache(@Value("${gg.jwt.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${gg.jwt.cache.max-ttl:5m}") Duration maxTtl,
+                              MeterRegistry meterRegistry) {
+
+        this.cache = Caffeine.newBuilder()
+                             .maximumSize(maximumSize)
+                             .expireAfter(new TokenExpiry(maxTtl))
+                             .recordStats()
+                             .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 검증 결과를 반환하고, 없으면 검증 후 성공한 결과만 캐시합니다.
+     *
+     * @param token    - 사용자의 JWT 입니다.
+     * @param verifier - 캐시에 없을 때 서명을 검증하는 함수입니다.
+     * @return 사용가능한 토큰이면 검증된 클레임을 반환합니다.
+     */
+    public Optional<VerifiedClaims> get(String token,
+                                        Function<String, Optional<VerifiedClaims>> verifier) {
+
+        return Optional.ofNullable(cache.get(TokenHashUtils.hash(token),
+                                             hash -> verifier.apply(token).orElse(null)));
+    }
+
+    /**
+     * 로그아웃된 토큰을 캐시에서 제거합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     */
+    public void invalidate(String token) {
+        cache.invalidate(TokenHashUtils.hash(token));
+    }
+
+    /**
+     * 적중/실패/제거 횟수 등 캐시 통계를 반환합니다.
+     *
+     * @return CacheStats
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    /**
+     * 항목의 유효 시간을 최대 유효 시간과 토큰 만료 시각 중 이른 쪽으로 맞춥니다.
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedClaims> {
+
+        private final long maxTtlNanos;
+
+        TokenExpiry(Duration maxTtl) {
+            this.maxTtlNanos = maxTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedClaims value, long currentTime) {
+            if (Objects.isNull(value.getExpiration())) {
+                return maxTtlNanos;
+            }
+
+            long remainingMillis = value.getExpiration().toEpochMilli() - System.currentTimeMillis();
+
+            return Math.min(maxTtlNanos, TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis)));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedClaims value, long currentTime,
+                                      long currentDuration) {
+
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedClaims value, long currentTime,
+                                    long currentDuration) {
+
+            return currentDuration;
+        }
+
+    }
+
+}
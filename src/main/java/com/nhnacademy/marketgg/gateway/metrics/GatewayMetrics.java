@@ -0,0 +1,112 @@
+package com.nhnacademy.marketgg.gateway.metrics;
+
+import com.nhnacademy.marketgg.gateway.jwt.TokenOutcome;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게이트웨이 필터의 단계별 소요 시간과 JWT 인증 결과를 기록합니다.
+ * 모든 Timer 는 백분위 히스토그램을 발행하므로 Prometheus 에서 p99 를 계산할 수 있습니다.
+ */
+@Component
+public class GatewayMetrics {
+
+    private static final String JWT_STAGE = "gg.jwt.stage";
+    private static final String JWT_OUTCOME = "gg.jwt.outcome";
+    private static final String HEADER_FILTER = "gg.filter.header";
+    private static final String ERROR_HANDLE = "gg.error.handle";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer revocationTimer;
+    private final Timer epochTimer;
+    private final Timer verificationTimer;
+    private final Timer mutationTimer;
+    private final Timer headerFilterTimer;
+    private final Map<TokenOutcome, Counter> outcomeCounters = new EnumMap<>(TokenOutcome.class);
+    private final Map<Class<?>, Timer> errorTimers = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자입니다.
+     *
+     * @param meterRegistry - 스프링 빈에 등록된 MeterRegistry 를 주입받습니다.
+     */
+    public GatewayMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.revocationTimer = this.stageTimer("revocation");
+        this.epochTimer = this.stageTimer("epoch");
+        this.verificationTimer = this.stageTimer("verification");
+        this.mutationTimer = this.stageTimer("mutation");
+        this.headerFilterTimer = Timer.builder(HEADER_FILTER)
+                                      .description("HeaderFilter 처리 시간")
+                                      .publishPercentileHistogram()
+                                      .register(meterRegistry);
+
+        for (TokenOutcome outcome : TokenOutcome.values()) {
+            outcomeCounters.put(outcome, Counter.builder(JWT_OUTCOME)
+                                                .description("Authorization 헤더가 있는 요청의 JWT 인증 결과")
+                                                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                                                .register(meterRegistry));
+        }
+    }
+
+    public void recordRevocation(long nanos) {
+        revocationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordEpoch(long nanos) {
+        epochTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordVerification(long nanos) {
+        verificationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMutation(long nanos) {
+        mutationTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordHeaderFilter(long nanos) {
+        headerFilterTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Authorization 헤더가 있는 요청 하나의 인증 결과를 기록합니다. 캐시 적중 여부와 관계없이 요청마다 한 번만 기록해야 합니다.
+     *
+     * @param outcome - 인증 결과입니다.
+     */
+    public void recordTokenOutcome(TokenOutcome outcome) {
+        outcomeCounters.get(outcome).increment();
+    }
+
+    /**
+     * 예외 처리 시간을 예외 타입별로 기록합니다.
+     *
+     * @param ex    - 처리한 예외입니다.
+     * @param nanos - 처리 시간입니다.
+     */
+    public void recordErrorHandling(Throwable ex, long nanos) {
+        errorTimers.computeIfAbsent(ex.getClass(), type -> Timer.builder(ERROR_HANDLE)
+                                                                .description("WebExceptionHandler 처리 시간")
+                                                                .tag("exception", type.getSimpleName())
+                                                                .publishPercentileHistogram()
+                                                                .register(meterRegistry))
+                   .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Timer stageTimer(String stage) {
+        return Timer.builder(JWT_STAGE)
+                    .description("JwtAuthorizationFilter 단계별 처리 시간")
+                    .tag("stage", stage)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,173 @@
+package com.nhnacademy.marketgg.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Redis 의 토큰 버킷에서 허용량을 묶음으로 빌려와 게이트웨이 노드 안에서 나누어 씁니다.
+ * 빌려온 허용량이 남아 있는 동안에는 Redis 를 거치지 않으며, 같은 키의 동시 요청은 하나의 Redis 호출을 공유합니다.
+ * 공유한 호출로 받은 허용량을 다른 요청이 먼저 써버리면, Redis 버킷이 빌 때까지 다시 빌려옵니다.
+ * 빌려온 허용량은 {@code lease-ttl} 이 지나면 버려지므로, 전체 허용량을 넘는 순간 폭주는 lease 크기만큼으로 제한됩니다.
+ * Redis 조회가 실패하거나 제한 시간을 넘기면 그 호출을 기다리던 요청을 모두 허용합니다.
+ */
+@Slf4j
+@Component
+public class PermitLeaser {
+
+    private static final String KEY_PREFIX = "gg:rate-limit:";
+
+    private static final long FAIL_OPEN = -1L;
+
+    private static final Mono<Boolean> ALLOWED = Mono.just(Boolean.TRUE);
+    private static final Mono<Boolean> DENIED = Mono.just(Boolean.FALSE);
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final RedisScript<Long> script;
+    private final Duration timeout;
+    private final Cache<String, Lease> leases;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param reactiveRedisTemplate - 스프링 빈에 등록된 ReactiveRedisTemplate 을 주입받습니다.
+     * @param timeout               - Redis 호출 제한 시간이며, 초과하거나 실패하면 요청을 허용합니다.
+     * @param maximumKeys           - 노드에서 보관할 최대 lease 수입니다.
+     */
+    public PermitLeaser(ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                        @Value("${gg.rate-limit.timeout:100ms}") Duration timeout,
+                        @Value("${gg.rate-limit.maximum-keys:100000}") long maximumKeys) {
+
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.script = RedisScript.of(new ClassPathResource("scripts/rate-limit.lua"), Long.class);
+        this.timeout = timeout;
+        this.leases = Caffeine.newBuilder()
+                              .maximumSize(maximumKeys)
+                              .expireAfterAccess(Duration.ofMinutes(1))
+                              .build();
+    }
+
+    /**
+     * 허용량 하나를 얻습니다.
+     *
+     * @param key   - 제한 단위(라우트와 사용자)를 나타내는 키입니다.
+     * @param limit - 적용할 제한입니다.
+     * @return 허용되면 true 를 방출하는 Mono 를 반환합니다.
+     */
+    public Mono<Boolean> acquire(String key, RateLimit limit) {
+        Lease lease = leases.get(key, k -> new Lease(limit.getLeaseTtl().toNanos()));
+
+        if (lease.tryAcquire()) {
+            return ALLOWED;
+        }
+
+        return this.acquire(lease, () -> this.borrow(key, limit));
+    }
+
+    private Mono<Boolean> acquire(Lease lease, Supplier<Mono<Long>> borrow) {
+        return lease.refill(borrow)
+                    .flatMap(granted -> {
+                        if (granted == FAIL_OPEN || lease.tryAcquire()) {
+                            return ALLOWED;
+                        }
+
+                        return granted > 0 ? this.acquire(lease, borrow) : DENIED;
+                    });
+    }
+
+    private Mono<Long> borrow(String key, RateLimit limit) {
+        List<String> args = List.of(String.valueOf(limit.getReplenishRate()),
+                                    String.valueOf(limit.getBurstCapacity()),
+                                    String.valueOf(limit.getLeaseSize()));
+
+        return reactiveRedisTemplate.execute(script, List.of(KEY_PREFIX + key), args)
+                                    .next()
+                                    .timeout(timeout)
+                                    .onErrorResume(ex -> {
+                                        log.warn("처리율 제한 조회에 실패하여 요청을 허용합니다. {}", ex.toString());
+                                        return Mono.just(FAIL_OPEN);
+                                    })
+                                    .defaultIfEmpty(0L);
+    }
+
+    /**
+     * 하나의 키에 대해 노드가 빌려온 허용량입니다.
+     */
+    private static final class Lease {
+
+        private final long ttlNanos;
+        private final AtomicLong permits = new AtomicLong();
+        private final AtomicReference<Mono<Long>> inflight = new AtomicReference<>();
+
+        private volatile long grantedAt;
+
+        Lease(long ttlNanos) {
+            this.ttlNanos = ttlNanos;
+        }
+
+        boolean tryAcquire() {
+            if (System.nanoTime() - grantedAt > ttlNanos) {
+                permits.set(0);
+                return false;
+            }
+
+            long current = permits.get();
+            while (current > 0) {
+                if (permits.compareAndSet(current, current - 1)) {
+                    return true;
+                }
+                current = permits.get();
+            }
+
+            return false;
+        }
+
+        /**
+         * 진행 중인 Redis 호출이 있으면 그 결과를 공유하고, 없으면 새로 빌려옵니다.
+         * 결과를 기다리던 요청이 허용량을 얻지 못해 다시 빌려올 수 있도록, 결과를 전달하기 전에 진행 중인 호출을 비웁니다.
+         */
+        Mono<Long> refill(Supplier<Mono<Long>> borrow) {
+            while (true) {
+                Mono<Long> current = inflight.get();
+
+                if (Objects.nonNull(current)) {
+                    return current;
+                }
+
+                Mono<Long> next = Mono.defer(borrow)
+                                      .doOnNext(granted -> {
+                                          inflight.set(null);
+                                          this.grant(granted);
+                                      })
+                                      .cache();
+
+                if (inflight.compareAndSet(null, next)) {
+                    return next;
+                }
+            }
+        }
+
+        private void grant(long granted) {
+            if (granted == FAIL_OPEN) {
+                return;
+            }
+
+            grantedAt = System.nanoTime();
+            permits.set(granted);
+        }
+
+    }
+
+}
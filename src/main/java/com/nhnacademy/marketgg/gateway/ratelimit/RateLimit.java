@@ -0,0 +1,34 @@
+package com.nhnacademy.marketgg.gateway.ratelimit;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 토큰 버킷 처리율 제한 설정입니다.
+ */
+@Getter
+@Setter
+public class RateLimit {
+
+    /**
+     * 초당 충전되는 허용량입니다.
+     */
+    private int replenishRate = 10;
+
+    /**
+     * 버킷에 쌓일 수 있는 최대 허용량입니다.
+     */
+    private int burstCapacity = 20;
+
+    /**
+     * 노드가 Redis 에서 한 번에 빌려오는 허용량입니다. 1 이면 요청마다 Redis 를 호출합니다.
+     */
+    private int leaseSize = 5;
+
+    /**
+     * 빌려온 허용량을 사용할 수 있는 시간입니다.
+     */
+    private Duration leaseTtl = Duration.ofSeconds(1);
+
+}
@@ -0,0 +1,78 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * SHA-256 다이제스트를 원소로 하는 스레드 안전한 Bloom 필터입니다.
+ * 다이제스트의 앞 16 바이트를 두 개의 해시로 나누어 k 개의 비트 위치를 계산합니다.
+ * 삭제를 지원하지 않으므로 정확한 판단은 별도의 집합으로 확인해야 합니다.
+ */
+public class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+
+    private final AtomicLongArray bits;
+    private final long bitSize;
+    private final int hashCount;
+
+    /**
+     * 예상 원소 수와 허용 오탐율로 Bloom 필터를 생성합니다.
+     *
+     * @param expectedInsertions - 예상 원소 수입니다.
+     * @param falsePositiveRate  - 허용 오탐율입니다.
+     */
+    public BloomFilter(long expectedInsertions, double falsePositiveRate) {
+        long n = Math.max(1L, expectedInsertions);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (LN2 * LN2));
+
+        this.bits = new AtomicLongArray((int) ((m + Long.SIZE - 1) / Long.SIZE));
+        this.bitSize = (long) bits.length() * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitSize / n * LN2));
+    }
+
+    /**
+     * 다이제스트를 필터에 추가합니다.
+     *
+     * @param digest - 토큰의 SHA-256 다이제스트입니다.
+     */
+    public void put(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(Long.BYTES);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+            int word = (int) (index >>> 6);
+            long mask = 1L << index;
+
+            long current;
+            do {
+                current = bits.get(word);
+            } while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask));
+        }
+    }
+
+    /**
+     * 다이제스트가 필터에 있을 수 있는지 확인합니다.
+     *
+     * @param digest - 토큰의 SHA-256 다이제스트입니다.
+     * @return false 이면 확실히 없는 원소입니다.
+     */
+    public boolean mightContain(byte[] digest) {
+        ByteBuffer buffer = ByteBuffer.wrap(digest);
+        long hash1 = buffer.getLong(0);
+        long hash2 = buffer.getLong(Long.BYTES);
+
+        for (int i = 0; i < hashCount; i++) {
+            long index = Math.floorMod(hash1 + i * hash2, bitSize);
+
+            if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+}
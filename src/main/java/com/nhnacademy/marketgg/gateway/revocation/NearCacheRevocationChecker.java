@@ -0,0 +1,359 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import com.nhnacademy.marketgg.gateway.config.ReloadableRedisConnectionFactory;
+import com.nhnacademy.marketgg.gateway.util.RevocationKeyUtils;
+import com.nhnacademy.marketgg.gateway.util.TokenHashUtils;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.redis.connection.ReactiveSubscription;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.PatternMatchUtils;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+/**
+ * Redis keyspace 알림으로 갱신되는 로그아웃 토큰 near-cache 입니다.
+ * 대부분의 토큰은 폐기되지 않았으므로, Bloom 필터와 해시 집합으로 네트워크 왕복 없이 메모리에서 응답합니다.
+ *
+ * <p>동기화 절차는 다음과 같습니다.
+ * <ol>
+ *     <li>keyevent 채널({@code __keyevent@<db>__:*})과 heartbeat 채널을 구독합니다.</li>
+ *     <li>구독이 수립되면 SCAN 으로 기존 로그아웃 토큰을 적재한 뒤 동기화 상태로 전환합니다.</li>
+ *     <li>set 이벤트는 집합에 추가하고, del/expired/evicted 이벤트는 집합에서 제거합니다.</li>
+ * </ol>
+ * {@code gg.revocation.key-format} 에 따라 legacy 키({@code key-pattern}), compact 키({@code gg:rv:*}) 또는 둘 다를 추적합니다.
+ *
+ * <p>일관성 범위: 로그아웃 키가 기록된 뒤 keyspace 알림이 도착하기까지(보통 수 ms) 로그아웃이 반영되지 않습니다.
+ * 구독이 끊기면 heartbeat 가 {@code heartbeat-interval} 의 3 배 안에 이를 감지하므로, 최악의 경우 그 시간만큼 반영이 늦어집니다.
+ * 동기화되지 않은 동안(기동 직후, 재구독 중)에는 {@link RedisRevocationChecker} 로 Redis 를 직접 조회합니다.
+ * 구독할 때마다 연결 팩토리에서 pub/sub 연결을 새로 얻으므로, 비밀번호 교체로 연결 팩토리가 바뀌어도 재구독하면 새 연결을 씁니다.
+ *
+ * <p>Redis 의 {@code notify-keyspace-events} 에 {@code Eg$xe} 가 포함되어야 합니다.
+ * Cluster 구성에서는 keyspace 알림이 각 노드에만 발행되어 구독한 노드의 이벤트만 받을 수 있으므로,
+ * 이 설정을 켜도 구독하지 않고 항상 {@link RedisRevocationChecker} 로 Redis 를 직접 조회합니다.
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "gg.revocation.near-cache.enabled", havingValue = "true")
+public class NearCacheRevocationChecker implements RevocationChecker {
+
+    private static final String HEARTBEAT_CHANNEL = "gg:revocation:heartbeat";
+    private static final String NOTIFY_KEYSPACE_EVENTS = "notify-keyspace-events";
+    private static final String NOTIFY_FLAGS = "Eg$xe";
+    private static final int MISSED_HEARTBEATS = 3;
+    private static final int SCAN_COUNT = 1000;
+
+    private static final Mono<Boolean> REVOKED = Mono.just(Boolean.TRUE);
+    private static final Mono<Boolean> NOT_REVOKED = Mono.just(Boolean.FALSE);
+
+    private final RedisRevocationChecker directChecker;
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate;
+    private final RevocationKeyFormat keyFormat;
+    private final ReloadableRedisConnectionFactory connectionFactory;
+    private final String keyeventPattern;
+    private final String keyPattern;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Duration heartbeatInterval;
+    private final boolean configureNotifications;
+    private final boolean clusterAware;
+
+    private volatile State state;
+    private volatile boolean synced;
+    private volatile long lastHeartbeatNanos;
+
+    private Disposable syncSubscription;
+    private Disposable heartbeatSubscription;
+    private ReactiveRedisMessageListenerContainer listenerContainer;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param directChecker          - 동기화되지 않았을 때 Redis 를 직접 조회하는 검사기입니다.
+     * @param reactiveRedisTemplate  - legacy 키 SCAN 과 heartbeat 발행에 쓰이는 ReactiveRedisTemplate 입니다.
+     * @param binaryRedisTemplate    - compact 키 SCAN 에 쓰이는 바이트 ReactiveRedisTemplate 입니다.
+     * @param keyFormat              - 로그아웃 토큰 키 형식입니다.
+     * @param connectionFactory      - RedisConfig 가 등록한 교체 가능한 연결 팩토리입니다.
+     * @param keyPattern             - 로그아웃 토큰 키의 패턴입니다.
+     * @param expectedInsertions     - Bloom 필터의 예상 원소 수입니다.
+     * @param falsePositiveRate      - Bloom 필터의 허용 오탐율입니다.
+     * @param heartbeatInterval      - 구독 상태를 확인하는 heartbeat 주기입니다.
+     * @param configureNotifications - 기동 시 notify-keyspace-events 를 직접 설정할지 여부입니다.
+     */
+    public NearCacheRevocationChecker(RedisRevocationChecker directChecker,
+                                      ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                                      ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                                      @Value("${gg.revocation.key-format:LEGACY}") RevocationKeyFormat keyFormat,
+                                      ReloadableRedisConnectionFactory connectionFactory,
+                                      @Value("${gg.revocation.near-cache.key-pattern:eyJ*}") String keyPattern,
+                                      @Value("${gg.revocation.near-cache.expected-insertions:100000}")
+                                      long expectedInsertions,
+                                      @Value("${gg.revocation.near-cache.false-positive-rate:0.01}")
+                                      double falsePositiveRate,
+                                      @Value("${gg.revocation.near-cache.heartbeat-interval:1s}")
+                                      Duration heartbeatInterval,
+                                      @Value("${gg.revocation.near-cache.configure-notifications:false}")
+                                      boolean configureNotifications) {
+
+        this.directChecker = directChecker;
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.keyFormat = keyFormat;
+        this.clusterAware = connectionFactory.isClusterAware();
+        this.connectionFactory = connectionFactory;
+        this.keyeventPattern = "__keyevent@" + connectionFactory.getDatabase() + "__:*";
+        this.keyPattern = keyPattern;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.heartbeatInterval = heartbeatInterval;
+        this.configureNotifications = configureNotifications;
+        this.state = new State(expectedInsertions, falsePositiveRate);
+
+        if (clusterAware) {
+            log.warn("Redis Cluster 구성에서는 keyspace 알림이 노드별로 발행되므로 near-cache 를 쓰지 않고 Redis 를 직접 조회합니다.");
+        }
+    }
+
+    @Override
+    public Mono<Boolean> isRevoked(String token) {
+        if (!synced) {
+            return directChecker.isRevoked(token);
+        }
+
+        byte[] digest = TokenHashUtils.digest(token);
+        State current = this.state;
+
+        if (!current.bloomFilter.mightContain(digest)) {
+            return NOT_REVOKED;
+        }
+
+        return current.revoked.contains(TokenHashUtils.encode(digest)) ? REVOKED : NOT_REVOKED;
+    }
+
+    /**
+     * 동기화 상태인지 확인합니다. 동기화되지 않은 동안에는 Redis 를 직접 조회합니다.
+     *
+     * @return 동기화 상태이면 true
+     */
+    public boolean isSynced() {
+        return synced;
+    }
+
+    /**
+     * 구독과 heartbeat 를 시작합니다. Cluster 구성에서는 시작하지 않습니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (clusterAware) {
+            return;
+        }
+
+        Mono<Void> notifications = configureNotifications ? this.configureNotifications() : Mono.empty();
+
+        notifications.subscribe(null, ex -> log.warn("notify-keyspace-events 설정에 실패했습니다. {}", ex.toString()));
+
+        this.subscribe();
+        this.heartbeatSubscription = Flux.interval(heartbeatInterval)
+                                         .concatMap(tick -> this.heartbeat())
+                                         .subscribe();
+    }
+
+    /**
+     * 구독과 heartbeat 를 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        synced = false;
+
+        if (clusterAware) {
+            return;
+        }
+
+        heartbeatSubscription.dispose();
+        syncSubscription.dispose();
+        this.replaceListenerContainer(null);
+    }
+
+    private synchronized void subscribe() {
+        synced = false;
+
+        if (Objects.nonNull(syncSubscription)) {
+            syncSubscription.dispose();
+        }
+
+        this.syncSubscription =
+            Flux.defer(this::receiveLater)
+                .flatMap(messages -> Flux.merge(messages.doOnNext(this::onMessage).then(), this.load())
+                                         .then())
+                .doOnError(ex -> {
+                    synced = false;
+                    log.warn("로그아웃 토큰 구독이 끊어졌습니다. 직접 조회로 전환합니다. {}", ex.toString());
+                })
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, Duration.ofSeconds(1))
+                                .maxBackoff(Duration.ofSeconds(30)))
+                .subscribe();
+    }
+
+    /**
+     * keyevent 패턴과 heartbeat 채널을 한 번에 구독합니다.
+     * PatternTopic 과 ChannelTopic 을 함께 받는 receiveLater 는 Iterable 과 직렬화 방식을 받는 형태뿐입니다.
+     * 키는 compact 형식의 원본 바이트를 그대로 읽어야 하므로 메시지 본문은 바이트 배열로 받습니다.
+     */
+    private Mono<Flux<ReactiveSubscription.Message<String, byte[]>>> receiveLater() {
+        ReactiveRedisMessageListenerContainer container = new ReactiveRedisMessageListenerContainer(connectionFactory);
+        this.replaceListenerContainer(container);
+
+        return container.receiveLater(List.of(new PatternTopic(keyeventPattern),
+                                              new ChannelTopic(HEARTBEAT_CHANNEL)),
+                                      SerializationPair.fromSerializer(RedisSerializer.string()),
+                                      SerializationPair.byteArray());
+    }
+
+    /**
+     * 재구독할 때 이전 구독이 쥐고 있던 pub/sub 연결을 닫습니다.
+     */
+    private synchronized void replaceListenerContainer(ReactiveRedisMessageListenerContainer container) {
+        if (Objects.nonNull(listenerContainer)) {
+            listenerContainer.destroy();
+        }
+
+        this.listenerContainer = container;
+    }
+
+    private Mono<Void> load() {
+        State loading = new State(expectedInsertions, falsePositiveRate);
+        this.state = loading;
+
+        Flux<byte[]> legacy = keyFormat.readsLegacy()
+            ? reactiveRedisTemplate.scan(this.scanOptions(keyPattern)).map(TokenHashUtils::digest)
+            : Flux.empty();
+        Flux<byte[]> compact = keyFormat.readsCompact()
+            ? binaryRedisTemplate.scan(this.scanOptions(RevocationKeyUtils.COMPACT_PATTERN))
+                                 .mapNotNull(RevocationKeyUtils::compactDigest)
+            : Flux.empty();
+
+        return Flux.concat(legacy, compact)
+                   .doOnNext(loading::add)
+                   .count()
+                   .doOnNext(count -> {
+                       lastHeartbeatNanos = System.nanoTime();
+                       synced = true;
+                       log.info("로그아웃 토큰 {} 건을 적재했습니다.", count);
+                   })
+                   .then();
+    }
+
+    private ScanOptions scanOptions(String pattern) {
+        return ScanOptions.scanOptions()
+                          .match(pattern)
+                          .count(SCAN_COUNT)
+                          .build();
+    }
+
+    private void onMessage(ReactiveSubscription.Message<String, byte[]> message) {
+        String channel = message.getChannel();
+
+        if (HEARTBEAT_CHANNEL.equals(channel)) {
+            lastHeartbeatNanos = System.nanoTime();
+            return;
+        }
+
+        byte[] digest = this.digestOf(message.getMessage());
+
+        if (Objects.isNull(digest)) {
+            return;
+        }
+
+        String event = channel.substring(channel.lastIndexOf(':') + 1);
+
+        if ("set".equals(event)) {
+            state.add(digest);
+        } else if ("del".equals(event) || "expired".equals(event) || "evicted".equals(event)) {
+            state.remove(digest);
+        }
+    }
+
+    private byte[] digestOf(byte[] key) {
+        if (keyFormat.readsCompact()) {
+            byte[] digest = RevocationKeyUtils.compactDigest(key);
+
+            if (Objects.nonNull(digest)) {
+                return digest;
+            }
+        }
+
+        if (keyFormat.readsLegacy()) {
+            String token = new String(key, StandardCharsets.UTF_8);
+
+            if (PatternMatchUtils.simpleMatch(keyPattern, token)) {
+                return TokenHashUtils.digest(token);
+            }
+        }
+
+        return null;
+    }
+
+    private Mono<Void> heartbeat() {
+        if (synced
+            && System.nanoTime() - lastHeartbeatNanos > heartbeatInterval.toNanos() * MISSED_HEARTBEATS) {
+
+            log.warn("로그아웃 토큰 구독의 heartbeat 가 끊어졌습니다. 다시 구독합니다.");
+            this.subscribe();
+        }
+
+        return reactiveRedisTemplate.convertAndSend(HEARTBEAT_CHANNEL, "1")
+                                    .then()
+                                    .onErrorResume(ex -> Mono.empty());
+    }
+
+    private Mono<Void> configureNotifications() {
+        return reactiveRedisTemplate.execute(connection -> connection.serverCommands()
+                                                                     .setConfig(NOTIFY_KEYSPACE_EVENTS, NOTIFY_FLAGS))
+                                    .then();
+    }
+
+    /**
+     * 한 번의 동기화 주기 동안 유지되는 Bloom 필터와 해시 집합입니다.
+     */
+    private static class State {
+
+        private final BloomFilter bloomFilter;
+        private final Set<String> revoked = ConcurrentHashMap.newKeySet();
+
+        State(long expectedInsertions, double falsePositiveRate) {
+            this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        }
+
+        void add(byte[] digest) {
+            bloomFilter.put(digest);
+            revoked.add(TokenHashUtils.encode(digest));
+        }
+
+        void remove(byte[] digest) {
+            revoked.remove(TokenHashUtils.encode(digest));
+        }
+
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * Reactive Redis 를 이용하여 로그아웃된 JWT 인지 확인합니다.
+ * 이벤트 루프 스레드를 블로킹하지 않으며, 지정된 시간 안에 응답이 없으면 실패 정책에 따라 처리합니다.
+ * {@link RevocationLookupBatcher} 가 활성화되어 있으면 동시에 들어온 조회를 MGET 으로 묶어 보냅니다.
+ * 키 형식은 {@code gg.revocation.key-format} 으로 정하며, 키와 값을 직렬화 없이 바이트 그대로 조회합니다.
+ * {@link SessionEpochChecker} 로 완전히 전환한 경우 {@code gg.revocation.token.enabled=false} 로 토큰별 조회를 끌 수 있습니다.
+ */
+@Slf4j
+@Component
+public class RedisRevocationChecker implements RevocationChecker {
+
+    private static final Mono<Boolean> NOT_REVOKED = Mono.just(Boolean.FALSE);
+
+    private final ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate;
+    private final boolean enabled;
+    private final RevocationKeyFormat keyFormat;
+    private final Duration timeout;
+    private final RevocationFailurePolicy failurePolicy;
+    private final RevocationLookupBatcher batcher;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param binaryRedisTemplate - 스프링 빈에 등록된 바이트 ReactiveRedisTemplate 을 주입받습니다.
+     * @param enabled             - 토큰별 로그아웃 조회를 사용할지 여부입니다.
+     * @param keyFormat           - 로그아웃 토큰 키 형식입니다.
+     * @param timeout             - Redis 조회 제한 시간입니다.
+     * @param failurePolicy       - 조회 실패 시 처리 정책입니다.
+     * @param batcher             - 활성화된 경우 조회를 MGET 으로 묶는 배처입니다.
+     */
+    public RedisRevocationChecker(ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                                  @Value("${gg.revocation.token.enabled:true}") boolean enabled,
+                                  @Value("${gg.revocation.key-format:LEGACY}") RevocationKeyFormat keyFormat,
+                                  @Value("${gg.revocation.timeout:200ms}") Duration timeout,
+                                  @Value("${gg.revocation.failure-policy:FAIL_CLOSED}")
+                                  RevocationFailurePolicy failurePolicy,
+                                  ObjectProvider<RevocationLookupBatcher> batcher) {
+
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.enabled = enabled;
+        this.keyFormat = keyFormat;
+        this.timeout = timeout;
+        this.failurePolicy = failurePolicy;
+        this.batcher = batcher.getIfAvailable();
+    }
+
+    @Override
+    public Mono<Boolean> isRevoked(String token) {
+        if (!enabled) {
+            return NOT_REVOKED;
+        }
+
+        Mono<Boolean> lookup = batcher != null ? batcher.lookup(token) : this.lookup(token);
+
+        return lookup.defaultIfEmpty(Boolean.FALSE)
+                     .timeout(timeout)
+                     .onErrorResume(this::onFailure);
+    }
+
+    private Mono<Boolean> lookup(String token) {
+        List<byte[]> keys = keyFormat.keys(token);
+
+        if (keys.size() == 1) {
+            return binaryRedisTemplate.hasKey(keys.get(0));
+        }
+
+        return binaryRedisTemplate.opsForValue()
+                                  .multiGet(keys)
+                                  .map(values -> values.stream().anyMatch(Objects::nonNull));
+    }
+
+    private Mono<Boolean> onFailure(Throwable ex) {
+        log.warn("로그아웃 여부 조회에 실패했습니다. 정책: {}, 원인: {}", failurePolicy, ex.toString());
+
+        return Mono.just(failurePolicy.isRevokedOnFailure());
+    }
+
+}
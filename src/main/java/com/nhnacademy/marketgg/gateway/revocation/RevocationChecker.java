@@ -0,0 +1,18 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * 로그아웃 등으로 폐기된 JWT 인지 확인합니다.
+ */
+public interface RevocationChecker {
+
+    /**
+     * 토큰이 폐기되었는지 비동기로 확인합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return 폐기된 토큰이면 true 를 방출하는 Mono 를 반환합니다.
+     */
+    Mono<Boolean> isRevoked(String token);
+
+}
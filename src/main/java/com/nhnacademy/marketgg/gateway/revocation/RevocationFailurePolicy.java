@@ -0,0 +1,22 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+/**
+ * 폐기 여부 조회가 실패하거나 시간 초과되었을 때의 처리 정책입니다.
+ */
+public enum RevocationFailurePolicy {
+
+    /**
+     * 조회 실패 시 폐기되지 않은 토큰으로 간주합니다.
+     */
+    FAIL_OPEN,
+
+    /**
+     * 조회 실패 시 폐기된 토큰으로 간주합니다.
+     */
+    FAIL_CLOSED;
+
+    public boolean isRevokedOnFailure() {
+        return this == FAIL_CLOSED;
+    }
+
+}
@@ -0,0 +1,62 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import com.nhnacademy.marketgg.gateway.util.RevocationKeyUtils;
+import java.util.List;
+
+/**
+ * 로그아웃 토큰을 조회할 Redis 키 형식입니다.
+ * legacy 에서 compact 로 옮길 때는 인증 서버가 compact 키를 쓰기 시작한 뒤 DUAL 로 전환하고,
+ * 기존 키가 모두 만료되면 COMPACT 로 전환합니다.
+ */
+public enum RevocationKeyFormat {
+
+    /**
+     * JWT 원문을 키로 조회합니다.
+     */
+    LEGACY,
+
+    /**
+     * {@link RevocationKeyUtils#compactKey(String)} 로 만든 38 바이트 키로 조회합니다.
+     */
+    COMPACT,
+
+    /**
+     * 두 형식을 모두 조회하며, 어느 한쪽에라도 있으면 로그아웃된 토큰입니다.
+     */
+    DUAL;
+
+    public boolean readsLegacy() {
+        return this != COMPACT;
+    }
+
+    public boolean readsCompact() {
+        return this != LEGACY;
+    }
+
+    /**
+     * 토큰 하나를 조회할 때 확인할 키 목록을 만듭니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return 조회할 키 목록을 반환합니다.
+     */
+    public List<byte[]> keys(String token) {
+        switch (this) {
+            case COMPACT:
+                return List.of(RevocationKeyUtils.compactKey(token));
+            case DUAL:
+                return List.of(RevocationKeyUtils.compactKey(token), RevocationKeyUtils.legacyKey(token));
+            default:
+                return List.of(RevocationKeyUtils.legacyKey(token));
+        }
+    }
+
+    /**
+     * 토큰 하나를 조회할 때 확인할 키의 수입니다.
+     *
+     * @return 키의 수
+     */
+    public int keysPerToken() {
+        return this == DUAL ? 2 : 1;
+    }
+
+}
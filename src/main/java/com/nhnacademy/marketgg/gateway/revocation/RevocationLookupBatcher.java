@@ -0,0 +1,171 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 동시에 들어온 로그아웃 여부 조회를 모아 한 번의 MGET 으로 보냅니다.
+ * 첫 조회 후 {@code window} 가 지나거나 {@code max-batch-size} 만큼 쌓이면 공유 Lettuce 연결로 MGET 을 보내고,
+ * 결과를 각 요청에 나누어 돌려줍니다. DUAL 키 형식에서는 조회 하나당 두 키를 MGET 에 담습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gg.revocation.batch.enabled", havingValue = "true")
+public class RevocationLookupBatcher {
+
+    private final ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate;
+    private final RevocationKeyFormat keyFormat;
+    private final long windowNanos;
+    private final int maxBatchSize;
+
+    private final Queue<PendingLookup> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Scheduler scheduler = Schedulers.parallel();
+
+    private final DistributionSummary batchSize;
+    private final Timer queueWait;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param binaryRedisTemplate - 스프링 빈에 등록된 바이트 ReactiveRedisTemplate 을 주입받습니다.
+     * @param keyFormat           - 로그아웃 토큰 키 형식입니다.
+     * @param window              - 조회를 모으는 최대 대기 시간입니다.
+     * @param maxBatchSize        - 한 번의 MGET 에 담을 최대 조회 수입니다.
+     * @param meterRegistry       - 배치 크기와 대기 시간을 기록할 MeterRegistry 입니다.
+     */
+    public RevocationLookupBatcher(ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate,
+                                   @Value("${gg.revocation.key-format:LEGACY}") RevocationKeyFormat keyFormat,
+                                   @Value("${gg.revocation.batch.window:500us}") Duration window,
+                                   @Value("${gg.revocation.batch.max-batch-size:128}") int maxBatchSize,
+                                   MeterRegistry meterRegistry) {
+
+        this.binaryRedisTemplate = binaryRedisTemplate;
+        this.keyFormat = keyFormat;
+        this.windowNanos = window.toNanos();
+        this.maxBatchSize = maxBatchSize;
+        this.batchSize = DistributionSummary.builder("gg.revocation.batch.size")
+                                            .description("MGET 한 번에 담긴 조회 수")
+                                            .register(meterRegistry);
+        this.queueWait = Timer.builder("gg.revocation.batch.queue-wait")
+                              .description("조회가 MGET 으로 보내지기까지 대기한 시간")
+                              .register(meterRegistry);
+    }
+
+    /**
+     * 로그아웃 여부 조회를 배치에 추가합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return 로그아웃된 토큰이면 true 를 방출하는 Mono 를 반환합니다.
+     */
+    public Mono<Boolean> lookup(String token) {
+        return Mono.create(sink -> {
+            queue.offer(new PendingLookup(token, sink, System.nanoTime()));
+
+            if (queued.incrementAndGet() >= maxBatchSize) {
+                while (queued.get() >= maxBatchSize) {
+                    this.flush();
+                }
+            } else if (flushScheduled.compareAndSet(false, true)) {
+                scheduler.schedule(this::onWindowElapsed, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private void onWindowElapsed() {
+        flushScheduled.set(false);
+        this.flush();
+
+        if (queued.get() > 0 && flushScheduled.compareAndSet(false, true)) {
+            scheduler.schedule(this::onWindowElapsed, windowNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void flush() {
+        List<PendingLookup> batch = new ArrayList<>(maxBatchSize);
+        PendingLookup pending;
+
+        while (batch.size() < maxBatchSize && Objects.nonNull(pending = queue.poll())) {
+            batch.add(pending);
+        }
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        queued.addAndGet(-batch.size());
+
+        long now = System.nanoTime();
+        for (PendingLookup lookup : batch) {
+            queueWait.record(now - lookup.enqueuedNanos, TimeUnit.NANOSECONDS);
+        }
+        batchSize.record(batch.size());
+
+        List<byte[]> keys = batch.stream()
+                                 .flatMap(lookup -> keyFormat.keys(lookup.token).stream())
+                                 .collect(Collectors.toList());
+
+        binaryRedisTemplate.opsForValue()
+                           .multiGet(keys)
+                           .subscribe(values -> this.dispatch(batch, values),
+                                      ex -> batch.forEach(lookup -> lookup.sink.error(ex)));
+    }
+
+    private void dispatch(List<PendingLookup> batch, List<byte[]> values) {
+        int keysPerToken = keyFormat.keysPerToken();
+
+        if (values.size() != batch.size() * keysPerToken) {
+            log.warn("MGET 결과 수가 일치하지 않습니다. 요청: {}, 응답: {}", batch.size() * keysPerToken, values.size());
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            boolean revoked = false;
+
+            for (int j = i * keysPerToken; j < (i + 1) * keysPerToken && j < values.size(); j++) {
+                byte[] value = values.get(j);
+                revoked |= Objects.nonNull(value);
+            }
+
+            batch.get(i).sink.success(revoked);
+        }
+    }
+
+    /**
+     * MGET 을 기다리는 하나의 조회입니다.
+     */
+    private static final class PendingLookup {
+
+        private final String token;
+        private final MonoSink<Boolean> sink;
+        private final long enqueuedNanos;
+
+        PendingLookup(String token, MonoSink<Boolean> sink, long enqueuedNanos) {
+            this.token = token;
+            this.sink = sink;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+
+    }
+
+}
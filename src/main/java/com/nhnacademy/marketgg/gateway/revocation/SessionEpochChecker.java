@@ -0,0 +1,136 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * 사용자별 세션 epoch 로 로그아웃 여부를 확인합니다.
+ * 인증 서버는 로그아웃 시 {@code gg:revocation:epoch:<uuid>} 키에 로그아웃 시각(epoch 초)을 기록하며,
+ * 발급 시각(iat)이 이 값보다 이른 토큰은 모두 거부됩니다. 토큰마다 키를 쓰지 않으므로 "모든 기기에서 로그아웃" 도 키 하나로 처리됩니다.
+ *
+ * <p>epoch 는 {@code cache-ttl} 동안 로컬에 캐시되므로, 로그아웃이 반영되기까지 최대 그만큼 늦어질 수 있습니다.
+ * epoch 가 없는 사용자도 캐시하여 Redis 조회는 사용자당 {@code cache-ttl} 마다 한 번으로 줄어듭니다.
+ * epoch 와 같은 초에 발급된 토큰은 재로그인 토큰과 구분할 수 없으므로 허용합니다.
+ */
+@Slf4j
+@Component
+public class SessionEpochChecker {
+
+    private static final String KEY_PREFIX = "gg:revocation:epoch:";
+    private static final String CACHE_NAME = "gg.revocation.epoch";
+    private static final long NO_EPOCH = 0L;
+
+    private static final Mono<Boolean> NOT_REVOKED = Mono.just(Boolean.FALSE);
+
+    private final ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private final boolean enabled;
+    private final Duration timeout;
+    private final RevocationFailurePolicy failurePolicy;
+    private final AsyncCache<String, Long> epochs;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param reactiveRedisTemplate - 스프링 빈에 등록된 ReactiveRedisTemplate 을 주입받습니다.
+     * @param enabled               - 세션 epoch 검사를 사용할지 여부입니다.
+     * @param cacheTtl              - epoch 를 로컬에 캐시하는 시간입니다.
+     * @param maximumSize           - 캐시에 보관할 최대 사용자 수입니다.
+     * @param timeout               - Redis 조회 제한 시간입니다.
+     * @param failurePolicy         - 조회 실패 시 처리 정책입니다.
+     * @param meterRegistry         - 적중/실패/제거 횟수를 기록할 MeterRegistry 입니다.
+     */
+    public SessionEpochChecker(ReactiveRedisTemplate<String, String> reactiveRedisTemplate,
+                               @Value("${gg.revocation.epoch.enabled:false}") boolean enabled,
+                               @Value("${gg.revocation.epoch.cache-ttl:5s}") Duration cacheTtl,
+                               @Value("${gg.revocation.epoch.maximum-size:100000}") long maximumSize,
+                               @Value("${gg.revocation.timeout:200ms}") Duration timeout,
+                               @Value("${gg.revocation.failure-policy:FAIL_CLOSED}")
+                               RevocationFailurePolicy failurePolicy,
+                               MeterRegistry meterRegistry) {
+
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
+        this.enabled = enabled;
+        this.timeout = timeout;
+        this.failurePolicy = failurePolicy;
+        this.epochs = Caffeine.newBuilder()
+                              .maximumSize(maximumSize)
+                              .expireAfterWrite(cacheTtl)
+                              .recordStats()
+                              .buildAsync();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, epochs, CACHE_NAME);
+    }
+
+    /**
+     * 세션 epoch 검사를 사용하는지 확인합니다.
+     *
+     * @return 사용하면 true
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 토큰이 사용자의 마지막 로그아웃 이전에 발급되었는지 확인합니다.
+     *
+     * @param claims - 서명 검증을 마친 클레임입니다.
+     * @return 로그아웃된 토큰이면 true 를 방출하는 Mono 를 반환합니다.
+     */
+    public Mono<Boolean> isRevoked(VerifiedClaims claims) {
+        if (!enabled || Objects.isNull(claims.getSubject())) {
+            return NOT_REVOKED;
+        }
+
+        return Mono.fromFuture(epochs.get(claims.getSubject(), (subject, executor) -> this.load(subject)))
+                   .map(epoch -> this.isIssuedBefore(claims, epoch))
+                   .onErrorResume(this::onFailure);
+    }
+
+    /**
+     * 로컬에 캐시된 사용자의 epoch 를 제거합니다.
+     *
+     * @param subject - 사용자 UUID 입니다.
+     */
+    public void invalidate(String subject) {
+        epochs.synchronous().invalidate(subject);
+    }
+
+    private CompletableFuture<Long> load(String subject) {
+        return reactiveRedisTemplate.opsForValue()
+                                    .get(KEY_PREFIX + subject)
+                                    .map(Long::parseLong)
+                                    .defaultIfEmpty(NO_EPOCH)
+                                    .timeout(timeout)
+                                    .toFuture();
+    }
+
+    private boolean isIssuedBefore(VerifiedClaims claims, long epoch) {
+        if (epoch == NO_EPOCH) {
+            return false;
+        }
+
+        if (Objects.isNull(claims.getIssuedAt())) {
+            return true;
+        }
+
+        return claims.getIssuedAt().getEpochSecond() < epoch;
+    }
+
+    private Mono<Boolean> onFailure(Throwable ex) {
+        log.warn("세션 epoch 조회에 실패했습니다. 정책: {}, 원인: {}", failurePolicy, ex.toString());
+
+        return Mono.just(failurePolicy.isRevokedOnFailure());
+    }
+
+}
@@ -0,0 +1,185 @@
+package com.nhnacademy.marketgg.gateway.routing;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_PREDICATE_ROUTE_ATTR;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.gateway.config.GlobalCorsProperties;
+import org.springframework.cloud.gateway.event.RefreshRoutesResultEvent;
+import org.springframework.cloud.gateway.handler.FilteringWebHandler;
+import org.springframework.cloud.gateway.handler.RoutePredicateHandlerMapping;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteDefinitionLocator;
+import org.springframework.cloud.gateway.route.RouteLocator;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * 라우트를 모두 차례로 평가하는 대신 {@link RouteIndex} 로 고른 후보만 평가하는 RoutePredicateHandlerMapping 입니다.
+ * Spring Cloud Gateway 의 기본 routePredicateHandlerMapping 을 대체합니다.
+ *
+ * <p>색인은 라우트 갱신이 끝났다는 RefreshRoutesResultEvent 를 받을 때마다 백그라운드에서 다시 만듭니다.
+ * 새 라우트가 아직 반영되지 않았으면 잠시 뒤 다시 읽고, 끝내 읽지 못하거나 색인이 없을 때는 기본 동작처럼 모든 라우트를 평가합니다.
+ * 후보의 평가 순서와 조건 평가 오류 처리는 기본 동작과 같으므로 어떤 라우트가 선택되는지는 달라지지 않습니다.
+ * {@code gg.route-index.enabled=false} 이면 등록되지 않고 기본 구현을 사용합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "gg.route-index.enabled", havingValue = "true", matchIfMissing = true)
+public class IndexedRoutePredicateHandlerMapping extends RoutePredicateHandlerMapping {
+
+    private static final int REBUILD_RETRIES = 20;
+    private static final Duration REBUILD_RETRY_DELAY = Duration.ofMillis(50);
+
+    private final RouteLocator routeLocator;
+    private final RouteDefinitionLocator routeDefinitionLocator;
+    private final Disposable.Swap rebuild = Disposables.swap();
+    private final Timer indexedMatched;
+    private final Timer indexedUnmatched;
+    private final Timer linearMatched;
+    private final Timer linearUnmatched;
+    private final DistributionSummary candidateCount;
+
+    private volatile RouteIndex index;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param webHandler             - 선택된 라우트의 필터를 실행하는 핸들러입니다.
+     * @param routeLocator           - 라우트 목록을 제공하는 RouteLocator 입니다.
+     * @param routeDefinitionLocator - 색인할 조건을 읽을 라우트 정의를 제공합니다.
+     * @param globalCorsProperties   - spring.cloud.gateway.globalcors 설정입니다.
+     * @param environment            - 핸들러 매핑 순서 설정을 읽을 Environment 입니다.
+     * @param meterRegistry          - 라우트 선택 시간을 기록할 MeterRegistry 입니다.
+     */
+    public IndexedRoutePredicateHandlerMapping(FilteringWebHandler webHandler, RouteLocator routeLocator,
+                                               RouteDefinitionLocator routeDefinitionLocator,
+                                               GlobalCorsProperties globalCorsProperties, Environment environment,
+                                               MeterRegistry meterRegistry) {
+
+        super(webHandler, routeLocator, globalCorsProperties, environment);
+        this.routeLocator = routeLocator;
+        this.routeDefinitionLocator = routeDefinitionLocator;
+        this.indexedMatched = matchTimer(meterRegistry, "indexed", "matched");
+        this.indexedUnmatched = matchTimer(meterRegistry, "indexed", "unmatched");
+        this.linearMatched = matchTimer(meterRegistry, "linear", "matched");
+        this.linearUnmatched = matchTimer(meterRegistry, "linear", "unmatched");
+        this.candidateCount = DistributionSummary.builder("gg.route.match.candidates")
+                                                 .description("요청 하나에 조건을 평가한 라우트 후보 수")
+                                                 .register(meterRegistry);
+
+        Gauge.builder("gg.route.index.routes", this, mapping -> mapping.indexSize(false))
+             .description("색인 여부별 라우트 수")
+             .tag("type", "indexed")
+             .register(meterRegistry);
+        Gauge.builder("gg.route.index.routes", this, mapping -> mapping.indexSize(true))
+             .description("색인 여부별 라우트 수")
+             .tag("type", "always")
+             .register(meterRegistry);
+    }
+
+    /**
+     * 라우트 갱신이 끝나면 색인을 다시 만듭니다.
+     *
+     * @param event - 라우트 갱신 결과 이벤트입니다.
+     */
+    @EventListener
+    public void onRefreshRoutesResult(RefreshRoutesResultEvent event) {
+        if (!event.isSuccess()) {
+            return;
+        }
+
+        RouteIndex previous = this.index;
+
+        // 갱신 결과 이벤트가 라우트 캐시 교체보다 먼저 발행될 수 있어, 이전 색인과 같은 라우트 객체를 읽으면 잠시 뒤 다시 읽습니다.
+        // 라우트는 갱신할 때마다 새로 만들어집니다.
+        rebuild.update(
+            Mono.defer(() -> routeLocator.getRoutes().collectList())
+                .filter(routes -> Objects.isNull(previous) || !previous.isBuiltFrom(routes))
+                .repeatWhenEmpty(REBUILD_RETRIES, attempts -> attempts.delayElements(REBUILD_RETRY_DELAY))
+                .zipWith(routeDefinitionLocator.getRouteDefinitions().collectList())
+                .map(tuple -> RouteIndex.build(tuple.getT1(), tuple.getT2()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .subscribe(this::replace, ex -> {
+                    log.warn("라우트 색인을 만들지 못해 모든 라우트를 차례로 평가합니다.", ex);
+                    this.index = null;
+                }));
+    }
+
+    /**
+     * 진행 중인 색인 생성을 취소합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        rebuild.dispose();
+    }
+
+    @Override
+    protected Mono<Route> lookupRoute(ServerWebExchange exchange) {
+        RouteIndex current = this.index;
+        long start = System.nanoTime();
+
+        if (Objects.isNull(current)) {
+            return super.lookupRoute(exchange)
+                        .doOnSuccess(route -> (Objects.nonNull(route) ? linearMatched : linearUnmatched)
+                            .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        }
+
+        List<Route> candidates = current.candidates(exchange.getRequest());
+        candidateCount.record(candidates.size());
+
+        return Flux.fromIterable(candidates)
+                   .concatMap(route -> Mono.just(route)
+                                           .filterWhen(candidate -> {
+                                               exchange.getAttributes()
+                                                       .put(GATEWAY_PREDICATE_ROUTE_ATTR, candidate.getId());
+                                               return candidate.getPredicate().apply(exchange);
+                                           })
+                                           .doOnError(ex -> log.error("라우트 조건 평가 중 오류: {}", route.getId(), ex))
+                                           .onErrorResume(ex -> Mono.empty()))
+                   .next()
+                   .doOnNext(route -> this.validateRoute(route, exchange))
+                   .doOnSuccess(route -> (Objects.nonNull(route) ? indexedMatched : indexedUnmatched)
+                       .record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+    }
+
+    private void replace(RouteIndex updated) {
+        this.index = updated;
+        log.info("라우트 색인을 만들었습니다. 라우트: {}, 색인된 라우트: {}", updated.size(), updated.getIndexedCount());
+    }
+
+    private double indexSize(boolean always) {
+        RouteIndex current = this.index;
+
+        if (Objects.isNull(current)) {
+            return 0;
+        }
+
+        return always ? current.size() - current.getIndexedCount() : current.getIndexedCount();
+    }
+
+    private static Timer matchTimer(MeterRegistry meterRegistry, String mode, String result) {
+        return Timer.builder("gg.route.match")
+                    .description("요청에 맞는 라우트를 찾는 데 걸린 시간")
+                    .tag("mode", mode)
+                    .tag("result", result)
+                    .register(meterRegistry);
+    }
+
+}
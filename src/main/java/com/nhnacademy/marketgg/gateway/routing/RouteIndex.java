@@ -0,0 +1,285 @@
+package com.nhnacademy.marketgg.gateway.routing;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.Getter;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * 라우트 정의의 Path, Host, Method 조건으로 요청마다 평가할 라우트 후보를 좁히는 색인입니다.
+ *
+ * <p>Path 는 패턴에서 와일드카드나 변수가 나오기 전까지의 고정 세그먼트로 trie 를 만들고,
+ * Host 는 와일드카드가 없는 패턴만, Method 는 그대로 해시 색인에 넣습니다.
+ * 색인은 라우트가 일치하기 위한 필요조건만 보므로, 후보로 고른 라우트의 조건은 {@link Route#getPredicate()} 로 다시 평가해야 합니다.
+ * 세 조건 중 어느 것도 색인할 수 없는 라우트(정의가 없는 Java DSL 라우트, SpEL 을 쓰는 조건 등)는 항상 후보에 넣습니다.
+ * 색인은 만든 뒤 바뀌지 않으므로 여러 스레드에서 동시에 조회해도 됩니다.
+ */
+public final class RouteIndex {
+
+    private static final String PATH = "Path";
+    private static final String HOST = "Host";
+    private static final String METHOD = "Method";
+    private static final String NOT_LITERAL = "*?{}%;";
+
+    private final List<Route> routes;
+    private final Node root = new Node();
+    private final Map<String, BitSet> hosts = new HashMap<>();
+    private final BitSet anyHost = new BitSet();
+    private final Map<HttpMethod, BitSet> methods = new EnumMap<>(HttpMethod.class);
+    private final BitSet anyMethod = new BitSet();
+
+    @Getter
+    private final int indexedCount;
+
+    private RouteIndex(List<Route> routes, Map<String, RouteDefinition> definitions) {
+        this.routes = List.copyOf(routes);
+
+        int indexed = 0;
+        for (int position = 0; position < this.routes.size(); position++) {
+            RouteDefinition definition = definitions.get(this.routes.get(position).getId());
+            List<PredicateDefinition> predicates =
+                Objects.nonNull(definition) ? definition.getPredicates() : Collections.emptyList();
+
+            boolean pathIndexed = this.indexPath(position, first(predicates, PATH));
+            boolean hostIndexed = this.indexHost(position, first(predicates, HOST));
+            boolean methodIndexed = this.indexMethod(position, first(predicates, METHOD));
+
+            if (pathIndexed || hostIndexed || methodIndexed) {
+                indexed++;
+            }
+        }
+        this.indexedCount = indexed;
+    }
+
+    /**
+     * 라우트 목록과 라우트 정의로 색인을 만듭니다. 라우트와 정의는 라우트 ID 로 연결합니다.
+     *
+     * @param routes      - RouteLocator 가 만든 라우트 목록입니다. 이 순서가 평가 순서입니다.
+     * @param definitions - RouteDefinitionLocator 가 읽은 라우트 정의입니다.
+     * @return 라우트 색인
+     */
+    public static RouteIndex build(List<Route> routes, List<RouteDefinition> definitions) {
+        Map<String, RouteDefinition> byId = definitions.stream()
+                                                       .filter(definition -> Objects.nonNull(definition.getId()))
+                                                       .collect(Collectors.toMap(RouteDefinition::getId,
+                                                                                 Function.identity(),
+                                                                                 (first, second) -> first));
+
+        return new RouteIndex(routes, byId);
+    }
+
+    /**
+     * 요청과 일치할 수 있는 라우트를 원래 순서대로 반환합니다.
+     * 경로는 PathRoutePredicateFactory 와 같이 context path 를 포함한 원본 경로({@code getURI().getRawPath()})를 씁니다.
+     *
+     * @param request - 요청입니다.
+     * @return 조건을 평가할 라우트 후보
+     */
+    public List<Route> candidates(ServerHttpRequest request) {
+        BitSet candidates = new BitSet(routes.size());
+        Node node = root;
+        candidates.or(node.routes);
+
+        for (PathContainer.Element element : PathContainer.parsePath(request.getURI().getRawPath()).elements()) {
+            if (!(element instanceof PathContainer.PathSegment)) {
+                continue;
+            }
+
+            String segment = ((PathContainer.PathSegment) element).valueToMatch();
+            if (segment.isEmpty()) {
+                continue;
+            }
+
+            node = node.children.get(segment.toLowerCase(Locale.ROOT));
+            if (Objects.isNull(node)) {
+                break;
+            }
+            candidates.or(node.routes);
+        }
+
+        String host = request.getHeaders().getFirst(HttpHeaders.HOST);
+        candidates.and(allowed(anyHost, Objects.nonNull(host) ? hosts.get(host.toLowerCase(Locale.ROOT)) : null));
+
+        HttpMethod method = request.getMethod();
+        candidates.and(allowed(anyMethod, Objects.nonNull(method) ? methods.get(method) : null));
+
+        List<Route> result = new ArrayList<>(candidates.cardinality());
+        for (int position = candidates.nextSetBit(0); position >= 0; position = candidates.nextSetBit(position + 1)) {
+            result.add(routes.get(position));
+        }
+
+        return result;
+    }
+
+    /**
+     * 색인한 라우트 수를 반환합니다.
+     *
+     * @return 라우트 수
+     */
+    public int size() {
+        return routes.size();
+    }
+
+    /**
+     * 색인이 주어진 라우트 객체들로 만들어졌는지 확인합니다.
+     *
+     * @param routes - 비교할 라우트 목록입니다.
+     * @return 같은 라우트 객체를 같은 순서로 담고 있으면 true
+     */
+    public boolean isBuiltFrom(List<Route> routes) {
+        if (this.routes.size() != routes.size()) {
+            return false;
+        }
+
+        for (int i = 0; i < routes.size(); i++) {
+            if (this.routes.get(i) != routes.get(i)) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private boolean indexPath(int position, PredicateDefinition predicate) {
+        List<String> patterns = Objects.nonNull(predicate) ? values(predicate) : null;
+
+        if (Objects.isNull(patterns) || patterns.stream().anyMatch(pattern -> !pattern.startsWith("/"))) {
+            root.routes.set(position);
+            return false;
+        }
+
+        for (String pattern : patterns) {
+            Node node = root;
+
+            for (String segment : pattern.split("/")) {
+                if (segment.isEmpty()) {
+                    continue;
+                }
+                if (containsAny(segment, NOT_LITERAL)) {
+                    break;
+                }
+
+                node = node.children.computeIfAbsent(segment.toLowerCase(Locale.ROOT), key -> new Node());
+            }
+
+            node.routes.set(position);
+        }
+
+        return true;
+    }
+
+    private boolean indexHost(int position, PredicateDefinition predicate) {
+        List<String> patterns = Objects.nonNull(predicate) ? values(predicate) : null;
+
+        if (Objects.isNull(patterns) || patterns.stream().anyMatch(pattern -> containsAny(pattern, NOT_LITERAL))) {
+            anyHost.set(position);
+            return false;
+        }
+
+        for (String pattern : patterns) {
+            hosts.computeIfAbsent(pattern.toLowerCase(Locale.ROOT), key -> new BitSet()).set(position);
+        }
+
+        return true;
+    }
+
+    private boolean indexMethod(int position, PredicateDefinition predicate) {
+        List<String> names = Objects.nonNull(predicate) ? values(predicate) : null;
+        List<HttpMethod> resolved = new ArrayList<>();
+
+        if (Objects.nonNull(names)) {
+            for (String name : names) {
+                resolved.add(HttpMethod.resolve(name.toUpperCase(Locale.ROOT)));
+            }
+        }
+
+        if (resolved.isEmpty() || resolved.contains(null)) {
+            anyMethod.set(position);
+            return false;
+        }
+
+        for (HttpMethod method : resolved) {
+            methods.computeIfAbsent(method, key -> new BitSet()).set(position);
+        }
+
+        return true;
+    }
+
+    /**
+     * 조건 인자의 값을 쉼표로 나누어 반환합니다. 값이 없거나 SpEL 식이 있으면 색인할 수 없으므로 null 을 반환합니다.
+     */
+    private static List<String> values(PredicateDefinition predicate) {
+        List<String> values = new ArrayList<>();
+
+        for (Map.Entry<String, String> arg : predicate.getArgs().entrySet()) {
+            if (arg.getKey().startsWith("match")) {
+                continue;
+            }
+            if (Objects.isNull(arg.getValue()) || arg.getValue().contains("#{")) {
+                return null;
+            }
+
+            for (String value : arg.getValue().split(",")) {
+                if (!value.isBlank()) {
+                    values.add(value.trim());
+                }
+            }
+        }
+
+        return values.isEmpty() ? null : values;
+    }
+
+    private static PredicateDefinition first(List<PredicateDefinition> predicates, String name) {
+        return predicates.stream()
+                         .filter(predicate -> name.equals(predicate.getName()))
+                         .findFirst()
+                         .orElse(null);
+    }
+
+    private static BitSet allowed(BitSet any, BitSet indexed) {
+        if (Objects.isNull(indexed)) {
+            return any;
+        }
+
+        BitSet allowed = (BitSet) any.clone();
+        allowed.or(indexed);
+
+        return allowed;
+    }
+
+    private static boolean containsAny(String value, String characters) {
+        for (int i = 0; i < value.length(); i++) {
+            if (characters.indexOf(value.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Path trie 의 노드입니다. 고정 세그먼트가 이 노드에서 끝나는 라우트의 위치를 담습니다.
+     */
+    private static final class Node {
+
+        private final Map<String, Node> children = new HashMap<>();
+        private final BitSet routes = new BitSet();
+
+    }
+
+}
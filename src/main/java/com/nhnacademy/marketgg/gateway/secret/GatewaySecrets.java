@@ -0,0 +1,27 @@
+package com.nhnacademy.marketgg.gateway.secret;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+
+/**
+ * Secure Manager 에서 받아온 게이트웨이 기동에 필요한 비밀 값입니다.
+ */
+@Getter
+@EqualsAndHashCode
+@AllArgsConstructor
+public final class GatewaySecrets {
+
+    /**
+     * {@code host:port:database} 형식의 Redis 접속 정보입니다.
+     */
+    private final String redisInfo;
+
+    private final String redisPassword;
+
+    /**
+     * Base64 URL 로 인코딩된 JWT 서명 비밀 값입니다.
+     */
+    private final String jwtSecret;
+
+}
@@ -0,0 +1,194 @@
+package com.nhnacademy.marketgg.gateway.secret;
+
+import com.nhnacademy.marketgg.gateway.exception.SecureManagerException;
+import com.nhnacademy.marketgg.gateway.util.SecureUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * 게이트웨이 기동에 필요한 비밀 값을 Secure Manager 에서 받아옵니다.
+ * 하나의 TLS 커넥터로 Redis 정보, Redis 비밀번호, JWT Secret 을 동시에 요청하며, 실패하면 백오프 후 재시도합니다.
+ *
+ * <p>{@code gg.secret.snapshot.enabled=true} 이면 받아온 비밀 값을 {@link SecretSnapshotStore} 에 암호화하여 저장하고,
+ * 다음 기동 시 스냅샷이 있으면 Secure Manager 를 기다리지 않고 바로 기동합니다.
+ * 이 경우 기동 직후 백그라운드에서 비밀 값을 다시 받아오며, 바뀐 값이 있으면 {@link #changes()} 로 알려 재기동 없이 반영하게 합니다.
+ */
+@Slf4j
+@Component
+public class SecretBootstrap {
+
+    private static final ParameterizedTypeReference<Map<String, Map<String, String>>> SECRET_TYPE =
+        new ParameterizedTypeReference<>() {
+        };
+
+    private final WebClient webClient;
+    private final Duration timeout;
+    private final long maxRetries;
+    private final Duration minBackoff;
+    private final String redisInfoUrl;
+    private final String redisPasswordUrl;
+    private final SecretSnapshotStore snapshotStore;
+    private final Sinks.Many<GatewaySecrets> changes = Sinks.many().replay().latest();
+    private final boolean refreshOnStart;
+
+    @Getter
+    private final String jwtSecretUrl;
+
+    @Getter
+    private volatile GatewaySecrets secrets;
+
+    private Disposable refresher;
+
+    /**
+     * 생성자입니다. 스냅샷으로 기동하지 않는 경우 모든 비밀 값을 받아올 때까지 기동을 기다립니다.
+     *
+     * @param redisInfoUrl     - 봉투 암호화된 Redis 정보 경로
+     * @param redisPasswordUrl - 봉투 암호화된 Redis 비밀번호 경로
+     * @param jwtSecretUrl     - Secure Manager 에서 JWT Secret Key 를 요청하는 URL 입니다.
+     * @param timeout          - 요청 한 번의 제한 시간입니다.
+     * @param maxRetries       - 요청이 실패했을 때 재시도할 최대 횟수입니다.
+     * @param minBackoff       - 첫 재시도까지의 대기 시간이며, 재시도마다 두 배씩 늘어납니다.
+     * @param snapshotEnabled  - 비밀 값 스냅샷을 저장하고 스냅샷으로 기동할지 여부입니다.
+     * @param snapshotStore    - 비밀 값 스냅샷 저장소입니다.
+     * @param secureUtils      - 보안에 필요한 유틸리티 클래스
+     * @param meterRegistry    - 전체 소요 시간을 기록할 MeterRegistry 입니다.
+     */
+    public SecretBootstrap(@Value("${gg.redis.url}") String redisInfoUrl,
+                           @Value("${gg.redis.password-url}") String redisPasswordUrl,
+                           @Value("${gg.jwt.secret-url}") String jwtSecretUrl,
+                           @Value("${gg.secret.timeout:3s}") Duration timeout,
+                           @Value("${gg.secret.max-retries:3}") long maxRetries,
+                           @Value("${gg.secret.min-backoff:200ms}") Duration minBackoff,
+                           @Value("${gg.secret.snapshot.enabled:false}") boolean snapshotEnabled,
+                           SecretSnapshotStore snapshotStore,
+                           SecureUtils secureUtils,
+                           MeterRegistry meterRegistry) {
+
+        this.webClient = WebClient.builder()
+                                  .clientConnector(secureUtils.getClientHttpConnector())
+                                  .build();
+        this.timeout = timeout;
+        this.maxRetries = maxRetries;
+        this.minBackoff = minBackoff;
+        this.redisInfoUrl = redisInfoUrl;
+        this.redisPasswordUrl = redisPasswordUrl;
+        this.jwtSecretUrl = jwtSecretUrl;
+        this.snapshotStore = snapshotEnabled ? snapshotStore : null;
+
+        long start = System.nanoTime();
+        GatewaySecrets snapshot = snapshotEnabled ? snapshotStore.load().orElse(null) : null;
+        String source = Objects.nonNull(snapshot) ? "snapshot" : "remote";
+
+        this.refreshOnStart = Objects.nonNull(snapshot);
+        this.secrets = Objects.nonNull(snapshot) ? snapshot : this.fetchSecrets().block();
+        long elapsed = System.nanoTime() - start;
+
+        if (!refreshOnStart && snapshotEnabled) {
+            snapshotStore.save(secrets);
+        }
+
+        Timer.builder("gg.secret.bootstrap")
+             .description("기동 시 비밀 값을 모두 받아오는 데 걸린 시간")
+             .tag("source", source)
+             .register(meterRegistry)
+             .record(elapsed, TimeUnit.NANOSECONDS);
+        log.info("비밀 값을 받아왔습니다. 출처: {}, 소요 시간: {} ms", source, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+
+    /**
+     * 스냅샷으로 기동한 경우 백그라운드에서 비밀 값을 다시 받아옵니다.
+     */
+    @PostConstruct
+    public void start() {
+        if (!refreshOnStart) {
+            return;
+        }
+
+        this.refresher = this.fetchSecrets()
+                             .publishOn(Schedulers.boundedElastic())
+                             .subscribe(this::update,
+                                        ex -> log.warn("비밀 값을 다시 받아오지 못했습니다. 스냅샷 값을 계속 사용합니다. {}",
+                                                       ex.toString()));
+    }
+
+    /**
+     * 백그라운드 갱신을 종료합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (Objects.nonNull(refresher)) {
+            refresher.dispose();
+        }
+    }
+
+    /**
+     * 기동 후 바뀐 비밀 값을 방출합니다.
+     * 마지막으로 바뀐 값을 다시 방출하므로 늦게 구독해도 변경을 놓치지 않으며, 구독자는 같은 값을 여러 번 받아도 안전해야 합니다.
+     *
+     * @return 바뀐 비밀 값을 방출하는 Flux
+     */
+    public Flux<GatewaySecrets> changes() {
+        return changes.asFlux();
+    }
+
+    /**
+     * Secure Manager 에서 하나의 비밀 값을 받아옵니다.
+     *
+     * @param url - 비밀 값을 요청하는 URL 입니다.
+     * @return 비밀 값을 방출하는 Mono 를 반환합니다.
+     */
+    public Mono<String> fetchSecret(String url) {
+        return webClient.get()
+                        .uri(url)
+                        .retrieve()
+                        .bodyToMono(SECRET_TYPE)
+                        .timeout(timeout)
+                        .map(body -> Optional.ofNullable(body.get("body"))
+                                             .map(secret -> secret.get("secret"))
+                                             .orElseThrow(SecureManagerException::new))
+                        .retryWhen(Retry.backoff(maxRetries, minBackoff)
+                                        .doBeforeRetry(signal -> log.warn("비밀 값 요청을 재시도합니다. {}: {}",
+                                                                          url, signal.failure().toString())));
+    }
+
+    private Mono<GatewaySecrets> fetchSecrets() {
+        return Mono.zip(this.fetchSecret(redisInfoUrl),
+                        this.fetchSecret(redisPasswordUrl),
+                        this.fetchSecret(jwtSecretUrl))
+                   .map(tuple -> new GatewaySecrets(tuple.getT1(), tuple.getT2(), tuple.getT3()))
+                   .onErrorMap(SecureManagerException::new);
+    }
+
+    private void update(GatewaySecrets fetched) {
+        snapshotStore.save(fetched);
+
+        if (fetched.equals(secrets)) {
+            log.info("스냅샷의 비밀 값이 최신입니다.");
+            return;
+        }
+
+        this.secrets = fetched;
+        log.info("스냅샷 이후 바뀐 비밀 값을 반영합니다.");
+        changes.tryEmitNext(fetched);
+    }
+
+}
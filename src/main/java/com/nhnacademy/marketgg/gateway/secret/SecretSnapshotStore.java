@@ -0,0 +1,185 @@
+package com.nhnacademy.marketgg.gateway.secret;
+
+import com.nhnacademy.marketgg.gateway.util.SecureUtils;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 마지막으로 받아온 비밀 값을 암호화하여 로컬 파일에 보관합니다.
+ *
+ * <p>암호화 키는 {@link SecureUtils} 가 읽는 키스토어의 개인키에서 SHA-256 으로 유도한 AES-256 키이며, AES-GCM 으로 암호화합니다.
+ * 파일 형식은 {@code 버전(1) | IV(12) | 암호문 + 인증 태그(16)} 이고, 버전 바이트는 AAD 로 함께 인증합니다.
+ * 키스토어가 바뀌었거나 파일이 손상되었으면 복호화에 실패하며, 이 경우 스냅샷이 없는 것으로 처리합니다.
+ *
+ * <p>파일은 같은 디렉터리의 임시 파일에 쓴 뒤 원자적으로 교체하며, POSIX 파일 시스템에서는 소유자만 읽을 수 있게 만듭니다.
+ */
+@Slf4j
+@Component
+public class SecretSnapshotStore {
+
+    private static final byte VERSION = 1;
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final int IV_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+    private static final byte[] KEY_LABEL = "marketgg-gateway:secret-snapshot:v1".getBytes(StandardCharsets.US_ASCII);
+
+    private final Path path;
+    private final SecureUtils secureUtils;
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile SecretKey key;
+
+    /**
+     * 생성자입니다.
+     *
+     * @param path        - 스냅샷 파일 경로입니다.
+     * @param secureUtils - 암호화 키를 유도할 개인키를 제공합니다.
+     */
+    public SecretSnapshotStore(@Value("${gg.secret.snapshot.path:secret-snapshot.bin}") String path,
+                               SecureUtils secureUtils) {
+
+        this.path = Paths.get(path).toAbsolutePath();
+        this.secureUtils = secureUtils;
+    }
+
+    /**
+     * 스냅샷을 읽어옵니다.
+     *
+     * @return 스냅샷이 있고 복호화에 성공하면 비밀 값을, 아니면 빈 Optional 을 반환합니다.
+     */
+    public Optional<GatewaySecrets> load() {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            byte[] snapshot = Files.readAllBytes(path);
+
+            if (snapshot.length <= 1 + IV_LENGTH || snapshot[0] != VERSION) {
+                throw new GeneralSecurityException("지원하지 않는 스냅샷 형식입니다.");
+            }
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.DECRYPT_MODE, this.key(), new GCMParameterSpec(TAG_BITS, snapshot, 1, IV_LENGTH));
+            cipher.updateAAD(snapshot, 0, 1);
+            byte[] plain = cipher.doFinal(snapshot, 1 + IV_LENGTH, snapshot.length - 1 - IV_LENGTH);
+
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(plain))) {
+                Instant savedAt = Instant.ofEpochMilli(in.readLong());
+                GatewaySecrets secrets = new GatewaySecrets(in.readUTF(), in.readUTF(), in.readUTF());
+
+                log.info("비밀 값 스냅샷을 읽었습니다. 저장 후 경과 시간: {}", Duration.between(savedAt, Instant.now()));
+
+                return Optional.of(secrets);
+            } finally {
+                Arrays.fill(plain, (byte) 0);
+            }
+        } catch (IOException | GeneralSecurityException ex) {
+            log.warn("비밀 값 스냅샷을 읽지 못했습니다. {}: {}", path, ex.toString());
+
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 비밀 값을 스냅샷으로 저장합니다. 저장에 실패해도 예외를 던지지 않습니다.
+     *
+     * @param secrets - 저장할 비밀 값입니다.
+     */
+    public void save(GatewaySecrets secrets) {
+        try {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+
+            try (DataOutputStream out = new DataOutputStream(buffer)) {
+                out.writeLong(System.currentTimeMillis());
+                out.writeUTF(secrets.getRedisInfo());
+                out.writeUTF(secrets.getRedisPassword());
+                out.writeUTF(secrets.getJwtSecret());
+            }
+
+            byte[] plain = buffer.toByteArray();
+            byte[] iv = new byte[IV_LENGTH];
+            random.nextBytes(iv);
+
+            byte[] header = new byte[1 + IV_LENGTH];
+            header[0] = VERSION;
+            System.arraycopy(iv, 0, header, 1, IV_LENGTH);
+
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, this.key(), new GCMParameterSpec(TAG_BITS, iv));
+            cipher.updateAAD(header, 0, 1);
+            byte[] encrypted = cipher.doFinal(plain);
+            Arrays.fill(plain, (byte) 0);
+
+            this.write(header, encrypted);
+            log.info("비밀 값 스냅샷을 저장했습니다. {}", path);
+        } catch (IOException | GeneralSecurityException ex) {
+            log.warn("비밀 값 스냅샷을 저장하지 못했습니다. {}: {}", path, ex.toString());
+        }
+    }
+
+    private void write(byte[] header, byte[] encrypted) throws IOException {
+        Path directory = Objects.requireNonNull(path.getParent());
+        Files.createDirectories(directory);
+
+        Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+
+        try {
+            if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix")) {
+                Files.setPosixFilePermissions(temp, PosixFilePermissions.fromString("rw-------"));
+            }
+
+            byte[] snapshot = Arrays.copyOf(header, header.length + encrypted.length);
+            System.arraycopy(encrypted, 0, snapshot, header.length, encrypted.length);
+            Files.write(temp, snapshot);
+
+            try {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private SecretKey key() throws GeneralSecurityException {
+        SecretKey current = this.key;
+
+        if (Objects.isNull(current)) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(KEY_LABEL);
+            current = new SecretKeySpec(digest.digest(secureUtils.getPrivateKey().getEncoded()), "AES");
+            this.key = current;
+        }
+
+        return current;
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+
+/**
+ * 신뢰하는 프록시가 남긴 X-Forwarded-For 값에서 클라이언트 IP 를 찾는 유틸리티 클래스입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ClientIpUtils {
+
+    private static final String UNKNOWN = "unknown";
+
+    /**
+     * 클라이언트 IP 를 찾습니다.
+     * 프록시는 자신이 받은 연결의 주소를 목록 끝에 덧붙이므로, 오른쪽에서 {@code trustedProxies} 번째 값이
+     * 가장 바깥쪽 신뢰 프록시가 본 주소입니다. 그보다 왼쪽 값은 클라이언트가 임의로 보낼 수 있으므로 사용하지 않습니다.
+     * 신뢰하는 프록시 수가 0 이거나 헤더가 없으면 연결의 원격 주소를 사용합니다.
+     *
+     * @param request        - 요청입니다.
+     * @param header         - 클라이언트 IP 를 담은 헤더 이름입니다.
+     * @param trustedProxies - 게이트웨이 앞에 있는 신뢰하는 프록시 수입니다.
+     * @return 클라이언트 IP
+     */
+    public static String clientIp(ServerHttpRequest request, String header, int trustedProxies) {
+        List<String> hops = trustedProxies > 0 ? hops(request.getHeaders().get(header)) : List.of();
+
+        if (!hops.isEmpty()) {
+            return hops.get(Math.max(0, hops.size() - trustedProxies));
+        }
+
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+
+        return Objects.nonNull(remoteAddress) ? remoteAddress.getHostString() : UNKNOWN;
+    }
+
+    private static List<String> hops(List<String> values) {
+        if (Objects.isNull(values)) {
+            return List.of();
+        }
+
+        List<String> hops = new ArrayList<>();
+        for (String value : values) {
+            for (String hop : value.split(",")) {
+                if (!hop.isBlank()) {
+                    hops.add(hop.trim());
+                }
+            }
+        }
+
+        return hops;
+    }
+
+}
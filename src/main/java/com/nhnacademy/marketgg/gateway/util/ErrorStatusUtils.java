@@ -0,0 +1,67 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import io.netty.channel.ConnectTimeoutException;
+import java.net.ConnectException;
+import java.net.NoRouteToHostException;
+import java.net.UnknownHostException;
+import java.util.Objects;
+import java.util.concurrent.TimeoutException;
+import javax.net.ssl.SSLException;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+import reactor.netty.http.client.PrematureCloseException;
+
+/**
+ * 요청 처리 중 발생한 예외를 클라이언트에 돌려줄 상태 코드로 변환하는 유틸리티 클래스입니다.
+ * 백엔드 시간 초과는 504, 연결 실패나 비정상 종료는 502 로 변환합니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ErrorStatusUtils {
+
+    private static final int MAX_CAUSE_DEPTH = 8;
+
+    /**
+     * 예외에 맞는 상태 코드를 찾습니다.
+     *
+     * @param ex - 처리할 예외입니다.
+     * @return 상태 코드를 반환하며, 알 수 없는 예외는 500 입니다.
+     */
+    public static HttpStatus resolve(Throwable ex) {
+        Throwable current = ex;
+
+        for (int depth = 0; Objects.nonNull(current) && depth < MAX_CAUSE_DEPTH; depth++) {
+            if (current instanceof ResponseStatusException) {
+                HttpStatus status = HttpStatus.resolve(((ResponseStatusException) current).getRawStatusCode());
+                return Objects.nonNull(status) ? status : HttpStatus.INTERNAL_SERVER_ERROR;
+            }
+            if (current instanceof TimeoutException || current instanceof ConnectTimeoutException
+                || current instanceof io.netty.handler.timeout.TimeoutException) {
+                return HttpStatus.GATEWAY_TIMEOUT;
+            }
+            if (current instanceof ConnectException || current instanceof UnknownHostException
+                || current instanceof NoRouteToHostException || current instanceof PrematureCloseException
+                || current instanceof SSLException) {
+                return HttpStatus.BAD_GATEWAY;
+            }
+
+            current = current.getCause();
+        }
+
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+
+    /**
+     * 백엔드를 사용할 수 없음을 뜻하는 상태 코드인지 확인합니다.
+     *
+     * @param status - 응답 상태 코드입니다.
+     * @return 502, 503, 504 이면 true
+     */
+    public static boolean isUpstreamFailure(int status) {
+        return status == HttpStatus.BAD_GATEWAY.value()
+            || status == HttpStatus.SERVICE_UNAVAILABLE.value()
+            || status == HttpStatus.GATEWAY_TIMEOUT.value();
+    }
+
+}
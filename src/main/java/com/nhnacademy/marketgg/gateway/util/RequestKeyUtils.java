@@ -0,0 +1,82 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import com.nhnacademy.marketgg.gateway.filter.JwtAuthorizationFilter;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaims;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.support.ServerWebExchangeUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+
+/**
+ * 같은 응답을 돌려받을 요청을 하나로 식별하는 키를 만드는 유틸리티 클래스입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RequestKeyUtils {
+
+    /**
+     * 인증 정보를 담는 요청 헤더 이름입니다. AUTH-ID 는 JwtAuthorizationFilter 가 붙이지만 클라이언트도 보낼 수 있습니다.
+     */
+    public static final String AUTH_ID = "AUTH-ID";
+
+    /**
+     * 라우트, 메서드, 경로, 쿼리, 검증된 사용자, 지정한 헤더 값으로 요청 키를 만듭니다.
+     * 사용자는 {@link JwtAuthorizationFilter} 가 검증한 클레임의 subject 이며, 검증되지 않은 요청은 빈 값입니다.
+     * 키는 접두사 뒤에 이 값들의 SHA-256 해시를 붙인 고정 길이 문자열입니다.
+     *
+     * @param prefix      - 키의 접두사입니다.
+     * @param exchange    - 현재 요청의 exchange 입니다.
+     * @param varyHeaders - 키에 포함할 요청 헤더 이름입니다.
+     * @return 요청 키를 반환합니다.
+     */
+    public static String key(String prefix, ServerWebExchange exchange, List<String> varyHeaders) {
+        ServerHttpRequest request = exchange.getRequest();
+        HttpHeaders headers = request.getHeaders();
+        Route route = exchange.getAttribute(ServerWebExchangeUtils.GATEWAY_ROUTE_ATTR);
+        VerifiedClaims claims = exchange.getAttribute(JwtAuthorizationFilter.CLAIMS_ATTR);
+
+        StringBuilder source = new StringBuilder(128)
+            .append(Objects.nonNull(route) ? route.getId() : "").append('\n')
+            .append(request.getMethodValue()).append('\n')
+            .append(request.getURI().getRawPath()).append('?')
+            .append(Objects.toString(request.getURI().getRawQuery(), "")).append('\n')
+            .append("auth=").append(Objects.nonNull(claims) ? claims.getSubject() : "");
+
+        for (String name : varyHeaders) {
+            source.append('\n')
+                  .append(name.toLowerCase(Locale.ROOT)).append('=')
+                  .append(String.join(",", headers.getOrEmpty(name)));
+        }
+
+        byte[] digest = TokenHashUtils.digest(source.toString().getBytes(StandardCharsets.UTF_8));
+
+        return prefix + TokenHashUtils.encode(digest);
+    }
+
+    /**
+     * {@link JwtAuthorizationFilter} 가 토큰을 검증한 요청인지 확인합니다.
+     *
+     * @param exchange - 현재 요청의 exchange 입니다.
+     * @return 검증된 클레임이 있으면 true
+     */
+    public static boolean isAuthenticated(ServerWebExchange exchange) {
+        return exchange.getAttributes().containsKey(JwtAuthorizationFilter.CLAIMS_ATTR);
+    }
+
+    /**
+     * 인증 정보를 담은 헤더가 있는 요청인지 확인합니다. 헤더가 있다고 해서 검증된 요청은 아닙니다.
+     *
+     * @param headers - 요청 헤더입니다.
+     * @return Authorization 또는 AUTH-ID 헤더가 있으면 true
+     */
+    public static boolean hasCredentials(HttpHeaders headers) {
+        return headers.containsKey(HttpHeaders.AUTHORIZATION) || headers.containsKey(AUTH_ID);
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 로그아웃 토큰의 Redis 키를 만드는 유틸리티 클래스입니다.
+ *
+ * <p>기존(legacy) 키는 JWT 원문이고, compact 키는 {@code gg:rv:} 뒤에 JWT 의 SHA-256 다이제스트 32 바이트를 그대로 붙인
+ * 38 바이트 키입니다. compact 키의 값은 JSON 이 아닌 임의의 비어있지 않은 바이트(예: {@code 0x01})입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class RevocationKeyUtils {
+
+    /**
+     * compact 키의 접두사입니다.
+     */
+    public static final String COMPACT_PREFIX = "gg:rv:";
+
+    /**
+     * compact 키를 SCAN 할 때 쓰이는 패턴입니다.
+     */
+    public static final String COMPACT_PATTERN = COMPACT_PREFIX + "*";
+
+    private static final byte[] PREFIX = COMPACT_PREFIX.getBytes(StandardCharsets.US_ASCII);
+    private static final int DIGEST_LENGTH = 32;
+    private static final int COMPACT_KEY_LENGTH = PREFIX.length + DIGEST_LENGTH;
+
+    /**
+     * 토큰의 compact 키를 만듭니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return compact 키를 반환합니다.
+     */
+    public static byte[] compactKey(String token) {
+        byte[] digest = TokenHashUtils.digest(token);
+        byte[] key = Arrays.copyOf(PREFIX, COMPACT_KEY_LENGTH);
+
+        System.arraycopy(digest, 0, key, PREFIX.length, DIGEST_LENGTH);
+
+        return key;
+    }
+
+    /**
+     * 토큰의 legacy 키를 만듭니다. StringRedisSerializer 가 만드는 키와 같습니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return legacy 키를 반환합니다.
+     */
+    public static byte[] legacyKey(String token) {
+        return token.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * compact 키에서 토큰 다이제스트를 꺼냅니다.
+     *
+     * @param key - Redis 키입니다.
+     * @return compact 키이면 32 바이트 다이제스트를, 아니면 null 을 반환합니다.
+     */
+    public static byte[] compactDigest(byte[] key) {
+        if (key.length != COMPACT_KEY_LENGTH
+            || !Arrays.equals(key, 0, PREFIX.length, PREFIX, 0, PREFIX.length)) {
+            return null;
+        }
+
+        return Arrays.copyOfRange(key, PREFIX.length, COMPACT_KEY_LENGTH);
+    }
+
+}
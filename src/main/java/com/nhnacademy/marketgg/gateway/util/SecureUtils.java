@@ -3,9 +3,11 @@ package com.nhnacademy.marketgg.gateway.util;
 import com.nhnacademy.marketgg.gateway.exception.ClientHttpConnectionException;
 import io.netty.handler.ssl.SslContext;
 import io.netty.handler.ssl.SslContextBuilder;
+import java.security.Key;
 import java.security.KeyStore;
+import java.security.PrivateKey;
+import java.util.Collections;
 import javax.net.ssl.KeyManagerFactory;
-import javax.net.ssl.TrustManagerFactory;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
@@ -31,37 +33,134 @@ public class SecureUtils {
     @Value("${gg.keystore.password}")
     private String keystorePassword;
 
+    private volatile KeyStore keyStore;
+    private volatile KeyManagerFactory keyManagerFactory;
+    private volatile ClientHttpConnector clientHttpConnector;
+
     /**
      * ClientHttpConnector 를 얻어옵니다.
+     * KeyStore 와 SslContext 는 최초 호출 시 한 번만 만들어지고, 이후에는 같은 ClientHttpConnector 를 재사용합니다.
      *
      * @return ClientHttpConnector
      */
     // @Bean
     public ClientHttpConnector getClientHttpConnector() {
+        ClientHttpConnector connector = this.clientHttpConnector;
+
+        if (connector == null) {
+            synchronized (this) {
+                connector = this.clientHttpConnector;
+
+                if (connector == null) {
+                    connector = this.createClientHttpConnector();
+                    this.clientHttpConnector = connector;
+                }
+            }
+        }
+
+        return connector;
+    }
+
+    /**
+     * 키스토어의 클라이언트 인증서를 담은 KeyManagerFactory 를 얻어옵니다.
+     * 키스토어는 최초 호출 시 한 번만 읽습니다.
+     *
+     * @return KeyManagerFactory
+     */
+    public KeyManagerFactory getKeyManagerFactory() {
+        KeyManagerFactory factory = this.keyManagerFactory;
+
+        if (factory == null) {
+            synchronized (this) {
+                factory = this.keyManagerFactory;
+
+                if (factory == null) {
+                    factory = this.createKeyManagerFactory();
+                    this.keyManagerFactory = factory;
+                }
+            }
+        }
+
+        return factory;
+    }
+
+    /**
+     * 키스토어에 있는 클라이언트 인증서의 개인키를 얻어옵니다.
+     * 로컬에 저장하는 비밀 값 스냅샷의 암호화 키를 만드는 데 쓰입니다.
+     *
+     * @return 키스토어의 첫 번째 개인키
+     */
+    public PrivateKey getPrivateKey() {
+        KeyStore store = this.getKeyStore();
+
+        try {
+            for (String alias : Collections.list(store.aliases())) {
+                Key key = store.getKey(alias, keystorePassword.toCharArray());
+
+                if (key instanceof PrivateKey) {
+                    return (PrivateKey) key;
+                }
+            }
+        } catch (Exception ex) {
+            log.error("An error has occurred: ", ex);
+            throw new ClientHttpConnectionException(ex);
+        }
+
+        throw new ClientHttpConnectionException(new IllegalStateException("키스토어에 개인키가 없습니다."));
+    }
+
+    private KeyStore getKeyStore() {
+        KeyStore store = this.keyStore;
+
+        if (store == null) {
+            synchronized (this) {
+                store = this.keyStore;
+
+                if (store == null) {
+                    store = this.loadKeyStore();
+                    this.keyStore = store;
+                }
+            }
+        }
+
+        return store;
+    }
+
+    private KeyStore loadKeyStore() {
         log.info("Market GG key store type: {}", keystoreType);
         log.info("Market GG key store path: {}", keystorePath);
         log.info("Market GG key store password: {}", keystorePassword);
 
         try {
-            KeyStore keyStore = KeyStore.getInstance(keystoreType);
+            KeyStore store = KeyStore.getInstance(keystoreType);
             Resource resource = new ClassPathResource(keystorePath);
-            keyStore.load(resource.getInputStream(), keystorePassword.toCharArray());
+            store.load(resource.getInputStream(), keystorePassword.toCharArray());
+
+            return store;
+
+        } catch (Exception ex) {
+            log.error("An error has occurred: ", ex);
+            throw new ClientHttpConnectionException(ex);
+        }
+    }
 
-            KeyManagerFactory keyManagerFactory =
-                KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
-            keyManagerFactory.init(keyStore, keystorePassword.toCharArray());
+    private KeyManagerFactory createKeyManagerFactory() {
+        try {
+            KeyManagerFactory factory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+            factory.init(this.getKeyStore(), keystorePassword.toCharArray());
 
-            KeyStore trustStore = KeyStore.getInstance(keystoreType);
-            Resource trustResource = new ClassPathResource(keystorePath);
-            trustStore.load(trustResource.getInputStream(), keystorePassword.toCharArray());
+            return factory;
 
-            TrustManagerFactory trustManagerFactory =
-                TrustManagerFactory.getInstance(TrustManagerFactory.getDefaultAlgorithm());
-            trustManagerFactory.init(trustStore);
+        } catch (Exception ex) {
+            log.error("An error has occurred: ", ex);
+            throw new ClientHttpConnectionException(ex);
+        }
+    }
 
+    private ClientHttpConnector createClientHttpConnector() {
+        try {
             SslContext sslContext = SslContextBuilder.forClient()
-                                                     .keyManager(keyManagerFactory)
-                                                     // .trustManager(trustManagerFactory)
+                                                     .keyManager(this.getKeyManagerFactory())
                                                      .build();
 
             HttpClient httpClient = HttpClient.create()
@@ -0,0 +1,70 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 토큰 원문 대신 사용할 고정 길이 해시를 만드는 유틸리티 클래스입니다.
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class TokenHashUtils {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    private static final ThreadLocal<MessageDigest> DIGEST = ThreadLocal.withInitial(TokenHashUtils::newDigest);
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 계산합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return 32 바이트 다이제스트를 반환합니다.
+     */
+    public static byte[] digest(String token) {
+        return digest(token.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 바이트 배열의 SHA-256 다이제스트를 계산합니다.
+     *
+     * @param bytes - 해시할 바이트 배열입니다.
+     * @return 32 바이트 다이제스트를 반환합니다.
+     */
+    public static byte[] digest(byte[] bytes) {
+        return DIGEST.get().digest(bytes);
+    }
+
+    /**
+     * 토큰의 SHA-256 다이제스트를 Base64 URL 문자열로 계산합니다.
+     *
+     * @param token - 사용자의 JWT 입니다.
+     * @return 43 자 길이의 해시 문자열을 반환합니다.
+     */
+    public static String hash(String token) {
+        return encode(digest(token));
+    }
+
+    /**
+     * 다이제스트를 Base64 URL 문자열로 변환합니다.
+     *
+     * @param digest - {@link #digest(String)} 로 계산한 다이제스트입니다.
+     * @return 해시 문자열을 반환합니다.
+     */
+    public static String encode(byte[] digest) {
+        return ENCODER.encodeToString(digest);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+-- 토큰 버킷에서 최대 requested 개의 허용량을 한 번에 빌려줍니다.
+-- KEYS[1]: 버킷 키, ARGV[1]: 초당 충전량, ARGV[2]: 버킷 용량, ARGV[3]: 요청 허용량
+-- 반환값: 실제로 빌려준 허용량(0 이상 requested 이하)
+-- TIME 뒤에 쓰기 명령을 실행하므로, 스크립트 대신 명령 효과를 복제하도록 먼저 전환합니다.
+-- Redis 3.2 ~ 4.x 에서는 이 전환 없이 쓰기 명령이 거부되며, 5.0 부터는 기본 동작입니다.
+if redis.replicate_commands then
+    redis.replicate_commands()
+end
+
+local key = KEYS[1]
+local rate = tonumber(ARGV[1])
+local capacity = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', key, 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local granted = math.min(requested, math.floor(tokens))
+tokens = tokens - granted
+
+redis.call('HSET', key, 'tokens', tokens, 'ts', now)
+redis.call('PEXPIRE', key, math.ceil(capacity / rate * 1000) + 1000)
+
+return granted
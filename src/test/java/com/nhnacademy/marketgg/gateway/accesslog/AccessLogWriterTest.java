@@ -0,0 +1,54 @@
+package com.nhnacademy.marketgg.gateway.accesslog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+class AccessLogWriterTest {
+
+    private final Logger accessLog = (Logger) LoggerFactory.getLogger("gg.access-log");
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void setUp() {
+        appender.start();
+        accessLog.addAppender(appender);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accessLog.detachAppender(appender);
+    }
+
+    @Test
+    void writesOneEventPerRecord() throws InterruptedException {
+        AccessLogWriter writer = new AccessLogWriter(64, 16, Duration.ofMillis(10), Set.of("token"), false,
+                                                     new SimpleMeterRegistry());
+        writer.start();
+
+        writer.offer(record("/products"));
+        writer.offer(record("/orders?token=secret&page=2"));
+        writer.offer(record("/members"));
+        writer.stop();
+
+        assertThat(appender.list).hasSize(3);
+        assertThat(appender.list).allSatisfy(event -> assertThat(event.getFormattedMessage()).doesNotContain("\n"));
+        assertThat(appender.list.get(1).getFormattedMessage())
+            .contains("path=/orders?token=***&page=2")
+            .doesNotContain("secret");
+    }
+
+    private static AccessLogRecord record(String path) {
+        return new AccessLogRecord(System.currentTimeMillis(), "GET", path, 200, "route", "user", "10.0.0.1", 1_000L);
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.nhnacademy.marketgg.gateway.circuit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.gateway.circuit.CircuitBreaker.State;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+class CircuitBreakerTest {
+
+    private static final Duration LONG = Duration.ofMinutes(1);
+
+    @Test
+    void opensWhenTheFailureRateReachesTheThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 10, LONG, 2);
+
+        breaker.onResult(State.CLOSED, true);
+        breaker.onResult(State.CLOSED, false);
+        breaker.onResult(State.CLOSED, false);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        breaker.onResult(State.CLOSED, true);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+        assertThat(breaker.getRemainingOpenSeconds()).isBetween(1L, 60L);
+    }
+
+    @Test
+    void staysClosedBelowTheThreshold() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 4, 10, LONG, 2);
+
+        breaker.onResult(State.CLOSED, true);
+        breaker.onResult(State.CLOSED, true);
+        breaker.onResult(State.CLOSED, true);
+        breaker.onResult(State.CLOSED, false);
+
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(breaker.tryAcquire()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void startsANewWindowAfterWindowSizeCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 2, 4, LONG, 2);
+
+        for (int i = 0; i < 4; i++) {
+            breaker.onResult(State.CLOSED, true);
+        }
+        breaker.onResult(State.CLOSED, false);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        breaker.onResult(State.CLOSED, false);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void halfOpenAdmitsOnlyTheProbesAndClosesWhenAllSucceed() {
+        CircuitBreaker breaker = opened(Duration.ZERO);
+
+        assertThat(breaker.tryAcquire()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.onResult(State.HALF_OPEN, true);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        breaker.onResult(State.HALF_OPEN, true);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @Test
+    void aFailedProbeReopens() {
+        CircuitBreaker breaker = opened(Duration.ZERO);
+
+        assertThat(breaker.tryAcquire()).isEqualTo(State.HALF_OPEN);
+        breaker.onResult(State.HALF_OPEN, true);
+        breaker.onResult(State.HALF_OPEN, false);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void ignoredProbesAreReturned() {
+        CircuitBreaker breaker = opened(Duration.ZERO);
+
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+        assertThat(breaker.tryAcquire()).isNull();
+
+        breaker.onIgnored(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    void ignoredRequestsDoNotCountAsCalls() {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 2, 4, LONG, 2);
+
+        breaker.onResult(State.CLOSED, false);
+        breaker.onIgnored(State.CLOSED);
+        breaker.onIgnored(State.CLOSED);
+        assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+        breaker.onResult(State.CLOSED, false);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @Test
+    void resultsFromAnEarlierStateAreIgnored() {
+        CircuitBreaker breaker = opened(LONG);
+
+        breaker.onResult(State.CLOSED, true);
+        breaker.onResult(State.HALF_OPEN, true);
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        CircuitBreaker probing = opened(Duration.ZERO);
+        assertThat(probing.tryAcquire()).isEqualTo(State.HALF_OPEN);
+
+        probing.onResult(State.CLOSED, false);
+        assertThat(probing.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    @Test
+    void probesIgnoredAfterReopeningDoNotFreeSlots() {
+        CircuitBreaker breaker = opened(Duration.ZERO);
+
+        breaker.tryAcquire();
+        breaker.tryAcquire();
+        breaker.onResult(State.HALF_OPEN, false);
+        breaker.onIgnored(State.HALF_OPEN);
+
+        assertThat(breaker.tryAcquire()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isEqualTo(State.HALF_OPEN);
+        assertThat(breaker.tryAcquire()).isNull();
+    }
+
+    private static CircuitBreaker opened(Duration openDuration) {
+        CircuitBreaker breaker = new CircuitBreaker(0.5, 2, 4, openDuration, 2);
+        breaker.onResult(State.CLOSED, false);
+        breaker.onResult(State.CLOSED, false);
+
+        assertThat(breaker.getState()).isEqualTo(State.OPEN);
+
+        return breaker;
+    }
+
+}
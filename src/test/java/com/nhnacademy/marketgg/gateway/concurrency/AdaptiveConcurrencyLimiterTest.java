@@ -0,0 +1,116 @@
+package com.nhnacademy.marketgg.gateway.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(200);
+
+    @Test
+    void lowerPrioritiesGetASmallerShareOfTheLimit() {
+        assertThat(acquired(limiter(10), RequestPriority.LOW)).isEqualTo(7);
+        assertThat(acquired(limiter(10), RequestPriority.NORMAL)).isEqualTo(9);
+        assertThat(acquired(limiter(10), RequestPriority.CRITICAL)).isEqualTo(10);
+    }
+
+    @Test
+    void criticalRequestsAreAcceptedAfterLowRequestsAreShed() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+
+        acquired(limiter, RequestPriority.LOW);
+
+        assertThat(limiter.tryAcquire(RequestPriority.LOW)).isFalse();
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+        assertThat(limiter.getInFlight()).isEqualTo(8);
+    }
+
+    @Test
+    void droppedRequestsShrinkTheLimitDownToTheMinimum() {
+        AdaptiveConcurrencyLimiter limiter = limiter(100);
+
+        limiter.tryAcquire(RequestPriority.CRITICAL);
+        limiter.onDropped();
+        assertThat(limiter.getLimit()).isEqualTo(90);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RequestPriority.CRITICAL);
+            limiter.onDropped();
+        }
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @Test
+    void steadyLatencyGrowsTheLimitWhileItIsInUse() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        saturate(limiter, FAST, 200);
+
+        assertThat(limiter.getLimit()).isGreaterThan(20);
+    }
+
+    @Test
+    void risingLatencyShrinksTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+        saturate(limiter, FAST, 50);
+        int before = limiter.getLimit();
+
+        saturate(limiter, SLOW, 50);
+
+        assertThat(limiter.getLimit()).isLessThan(before);
+    }
+
+    @Test
+    void idleSamplesDoNotChangeTheLimit() {
+        AdaptiveConcurrencyLimiter limiter = limiter(20);
+
+        for (int i = 0; i < 100; i++) {
+            limiter.tryAcquire(RequestPriority.CRITICAL);
+            limiter.onSuccess(i % 2 == 0 ? FAST : SLOW);
+        }
+
+        assertThat(limiter.getLimit()).isEqualTo(20);
+    }
+
+    @Test
+    void ignoredRequestsOnlyReleaseTheSlot() {
+        AdaptiveConcurrencyLimiter limiter = limiter(10);
+        acquired(limiter, RequestPriority.CRITICAL);
+
+        limiter.onIgnored();
+
+        assertThat(limiter.getInFlight()).isEqualTo(9);
+        assertThat(limiter.getLimit()).isEqualTo(10);
+        assertThat(limiter.tryAcquire(RequestPriority.CRITICAL)).isTrue();
+    }
+
+    private static AdaptiveConcurrencyLimiter limiter(int initialLimit) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, 4, 1000, 1.5, 0.2, 600, 10);
+    }
+
+    private static int acquired(AdaptiveConcurrencyLimiter limiter, RequestPriority priority) {
+        int acquired = 0;
+        while (limiter.tryAcquire(priority)) {
+            acquired++;
+        }
+
+        return acquired;
+    }
+
+    /**
+     * 한도만큼 요청을 채운 채로, 요청 하나가 끝날 때마다 새 요청을 받는 상황을 흉내 냅니다.
+     */
+    private static void saturate(AdaptiveConcurrencyLimiter limiter, long rttNanos, int samples) {
+        acquired(limiter, RequestPriority.CRITICAL);
+
+        for (int i = 0; i < samples; i++) {
+            limiter.onSuccess(rttNanos);
+            acquired(limiter, RequestPriority.CRITICAL);
+        }
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.nhnacademy.marketgg.gateway.exception.SecureManagerException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisConfiguration;
+import org.springframework.data.redis.connection.RedisNode;
+import org.springframework.data.redis.connection.RedisSentinelConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+
+class RedisConfigTest {
+
+    @Test
+    void parseStandalone() {
+        RedisConfiguration configuration = RedisConfig.parseRedisInfo("10.0.0.1:6379:3", "secret");
+
+        assertThat(configuration).isInstanceOf(RedisStandaloneConfiguration.class);
+
+        RedisStandaloneConfiguration standalone = (RedisStandaloneConfiguration) configuration;
+        assertThat(standalone.getHostName()).isEqualTo("10.0.0.1");
+        assertThat(standalone.getPort()).isEqualTo(6379);
+        assertThat(standalone.getDatabase()).isEqualTo(3);
+        assertThat(standalone.getPassword().get()).isEqualTo("secret".toCharArray());
+    }
+
+    @Test
+    void parseSentinel() {
+        RedisConfiguration configuration =
+            RedisConfig.parseRedisInfo("sentinel|mymaster|10.0.0.1:26379, 10.0.0.2:26380|2", "secret");
+
+        assertThat(configuration).isInstanceOf(RedisSentinelConfiguration.class);
+
+        RedisSentinelConfiguration sentinel = (RedisSentinelConfiguration) configuration;
+        assertThat(sentinel.getMaster().getName()).isEqualTo("mymaster");
+        assertThat(sentinel.getSentinels()).containsExactlyInAnyOrder(new RedisNode("10.0.0.1", 26379),
+                                                                       new RedisNode("10.0.0.2", 26380));
+        assertThat(sentinel.getDatabase()).isEqualTo(2);
+        assertThat(sentinel.getPassword().get()).isEqualTo("secret".toCharArray());
+    }
+
+    @Test
+    void parseCluster() {
+        RedisConfiguration configuration =
+            RedisConfig.parseRedisInfo("cluster|redis-1.internal:7000,redis-2.internal:7001", "secret");
+
+        assertThat(configuration).isInstanceOf(RedisClusterConfiguration.class);
+
+        RedisClusterConfiguration cluster = (RedisClusterConfiguration) configuration;
+        assertThat(cluster.getClusterNodes()).containsExactlyInAnyOrder(new RedisNode("redis-1.internal", 7000),
+                                                                        new RedisNode("redis-2.internal", 7001));
+        assertThat(cluster.getPassword().get()).isEqualTo("secret".toCharArray());
+    }
+
+    @Test
+    void rejectMalformedNode() {
+        assertThatThrownBy(() -> RedisConfig.parseRedisInfo("cluster|redis-1.internal", "secret"))
+            .isInstanceOf(SecureManagerException.class);
+        assertThatThrownBy(() -> RedisConfig.parseRedisInfo("cluster|redis-1.internal:port", "secret"))
+            .isInstanceOf(SecureManagerException.class);
+        assertThatThrownBy(() -> RedisConfig.parseRedisInfo("10.0.0.1:6379", "secret"))
+            .isInstanceOf(SecureManagerException.class);
+    }
+
+}
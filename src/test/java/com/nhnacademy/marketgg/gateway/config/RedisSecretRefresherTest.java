@@ -0,0 +1,218 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.marketgg.gateway.secret.GatewaySecrets;
+import com.nhnacademy.marketgg.gateway.secret.SecretBootstrap;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import reactor.core.publisher.Sinks;
+
+class RedisSecretRefresherTest {
+
+    @Test
+    void redisStaysUsableAfterPasswordAndNodeChange() throws Exception {
+        try (RespStub first = new RespStub(); RespStub second = new RespStub()) {
+            GatewaySecrets initial = new GatewaySecrets(first.info(), "old-password", "jwt");
+            ReloadableRedisConnectionFactory factory =
+                new ReloadableRedisConnectionFactory(
+                    RedisConfig.parseRedisInfo(initial.getRedisInfo(), initial.getRedisPassword()),
+                    LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(2)).build(),
+                    Duration.ofMillis(50));
+            factory.afterPropertiesSet();
+
+            Sinks.Many<GatewaySecrets> changes = Sinks.many().multicast().directBestEffort();
+            SecretBootstrap secretBootstrap = mock(SecretBootstrap.class);
+            when(secretBootstrap.changes()).thenReturn(changes.asFlux());
+
+            RedisSecretRefresher refresher = new RedisSecretRefresher(secretBootstrap, factory);
+            refresher.start();
+
+            ReactiveRedisTemplate<String, String> reactiveTemplate =
+                new ReactiveRedisTemplate<>(factory, RedisSerializationContext.string());
+            StringRedisTemplate template = new StringRedisTemplate(factory);
+
+            assertThat(reactiveTemplate.execute(connection -> connection.ping()).blockFirst()).isEqualTo("PONG");
+            assertThat(template.execute((RedisCallback<String>) RedisConnection::ping)).isEqualTo("PONG");
+
+            changes.tryEmitNext(new GatewaySecrets(second.info(), "new-password", "jwt"));
+            Thread.sleep(300);
+
+            assertThat(reactiveTemplate.execute(connection -> connection.ping()).blockFirst()).isEqualTo("PONG");
+            assertThat(template.execute((RedisCallback<String>) RedisConnection::ping)).isEqualTo("PONG");
+            assertThat(first.commands()).contains(List.of("AUTH", "old-password"))
+                                        .doesNotContain(List.of("AUTH", "new-password"));
+            assertThat(second.commands()).contains(List.of("AUTH", "new-password"));
+
+            refresher.stop();
+            factory.destroy();
+        }
+    }
+
+    @Test
+    void unchangedSecretsKeepTheCurrentConnection() throws Exception {
+        try (RespStub stub = new RespStub()) {
+            GatewaySecrets initial = new GatewaySecrets(stub.info(), "password", "jwt");
+            ReloadableRedisConnectionFactory factory =
+                new ReloadableRedisConnectionFactory(
+                    RedisConfig.parseRedisInfo(initial.getRedisInfo(), initial.getRedisPassword()),
+                    LettuceClientConfiguration.builder().commandTimeout(Duration.ofSeconds(2)).build(),
+                    Duration.ofMillis(50));
+            factory.afterPropertiesSet();
+
+            Sinks.Many<GatewaySecrets> changes = Sinks.many().multicast().directBestEffort();
+            SecretBootstrap secretBootstrap = mock(SecretBootstrap.class);
+            when(secretBootstrap.changes()).thenReturn(changes.asFlux());
+
+            RedisSecretRefresher refresher = new RedisSecretRefresher(secretBootstrap, factory);
+            refresher.start();
+
+            StringRedisTemplate template = new StringRedisTemplate(factory);
+            assertThat(template.execute((RedisCallback<String>) RedisConnection::ping)).isEqualTo("PONG");
+
+            changes.tryEmitNext(new GatewaySecrets(stub.info(), "password", "other-jwt"));
+            changes.tryEmitNext(new GatewaySecrets("cluster|" + stub.address(), "password", "jwt"));
+            Thread.sleep(300);
+
+            assertThat(template.execute((RedisCallback<String>) RedisConnection::ping)).isEqualTo("PONG");
+            assertThat(stub.commands().stream().filter(command -> command.get(0).equals("AUTH"))).hasSize(1);
+
+            refresher.stop();
+            factory.destroy();
+        }
+    }
+
+    /**
+     * 연결 수립과 PING 만 처리하는 최소한의 RESP2 Redis 대역입니다. 받은 명령을 모두 기록합니다.
+     */
+    private static class RespStub implements AutoCloseable {
+
+        private final ServerSocket serverSocket;
+        private final Queue<List<String>> commands = new ConcurrentLinkedQueue<>();
+
+        RespStub() throws IOException {
+            this.serverSocket = new ServerSocket(0, 16, InetAddress.getLoopbackAddress());
+            this.daemon(this::accept);
+        }
+
+        String address() {
+            return "127.0.0.1:" + serverSocket.getLocalPort();
+        }
+
+        String info() {
+            return this.address() + ":0";
+        }
+
+        Queue<List<String>> commands() {
+            return commands;
+        }
+
+        @Override
+        public void close() throws IOException {
+            serverSocket.close();
+        }
+
+        private void daemon(Runnable runnable) {
+            Thread thread = new Thread(runnable, "resp-stub");
+            thread.setDaemon(true);
+            thread.start();
+        }
+
+        private void accept() {
+            while (!serverSocket.isClosed()) {
+                try {
+                    Socket socket = serverSocket.accept();
+                    this.daemon(() -> this.serve(socket));
+                } catch (IOException ex) {
+                    return;
+                }
+            }
+        }
+
+        private void serve(Socket socket) {
+            try (socket; InputStream in = new BufferedInputStream(socket.getInputStream())) {
+                OutputStream out = socket.getOutputStream();
+
+                while (true) {
+                    List<String> command = readCommand(in);
+
+                    if (command.isEmpty()) {
+                        return;
+                    }
+
+                    commands.add(command);
+                    out.write(reply(command.get(0).toUpperCase(Locale.ROOT)).getBytes(StandardCharsets.US_ASCII));
+                    out.flush();
+                }
+            } catch (IOException ex) {
+                // 클라이언트가 연결을 닫았습니다.
+            }
+        }
+
+        private static String reply(String name) {
+            switch (name) {
+                case "HELLO":
+                    return "-ERR unknown command 'HELLO'\r\n";
+                case "PING":
+                    return "+PONG\r\n";
+                default:
+                    return "+OK\r\n";
+            }
+        }
+
+        private static List<String> readCommand(InputStream in) throws IOException {
+            String header = readLine(in);
+            List<String> command = new ArrayList<>();
+
+            if (header.isEmpty()) {
+                return command;
+            }
+
+            int count = Integer.parseInt(header.substring(1));
+
+            for (int i = 0; i < count; i++) {
+                int length = Integer.parseInt(readLine(in).substring(1));
+                byte[] value = in.readNBytes(length + 2);
+                command.add(new String(value, 0, length, StandardCharsets.UTF_8));
+            }
+
+            return command;
+        }
+
+        private static String readLine(InputStream in) throws IOException {
+            StringBuilder line = new StringBuilder();
+            int read;
+
+            while ((read = in.read()) != -1 && read != '\n') {
+                if (read != '\r') {
+                    line.append((char) read);
+                }
+            }
+
+            return line.toString();
+        }
+
+    }
+
+}
@@ -0,0 +1,89 @@
+package com.nhnacademy.marketgg.gateway.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import com.nhnacademy.marketgg.gateway.util.SecureUtils;
+import io.netty.channel.ChannelOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+class UpstreamHttpClientFactoryTest {
+
+    private HttpClientProperties properties;
+    private UpstreamProperties upstreamProperties;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() {
+        properties = new HttpClientProperties();
+        upstreamProperties = new UpstreamProperties();
+        upstreamProperties.setMutualTls(false);
+        upstreamProperties.setNativeTransport(false);
+        connectionProvider = ConnectionProvider.create("test", 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        connectionProvider.dispose();
+    }
+
+    @Test
+    void appliesGatewayHttpClientPropertiesAndCustomizers() throws Exception {
+        properties.setConnectTimeout(1234);
+        properties.setCompression(true);
+        properties.getProxy().setHost("proxy.internal");
+        properties.getProxy().setPort(3128);
+        properties.getSsl().setHandshakeTimeout(Duration.ofSeconds(7));
+        AtomicInteger customized = new AtomicInteger();
+        HttpClientCustomizer customizer = httpClient -> {
+            customized.incrementAndGet();
+            return httpClient;
+        };
+
+        HttpClient httpClient = this.create(List.of(customizer));
+
+        assertThat(customized).hasValue(1);
+        assertThat(connectTimeout(httpClient)).isEqualTo(1234);
+        assertThat(httpClient.configuration().isAcceptGzip()).isTrue();
+        assertThat(httpClient.configuration().proxyProvider()).isNotNull();
+        assertThat(httpClient.configuration().sslProvider().toString()).contains("handshakeTimeoutMillis=7000");
+    }
+
+    @Test
+    void fallsBackToUpstreamSettings() throws Exception {
+        upstreamProperties.setConnectTimeout(Duration.ofMillis(2500));
+        upstreamProperties.setHttp2(true);
+
+        HttpClient httpClient = this.create(List.of());
+
+        assertThat(connectTimeout(httpClient)).isEqualTo(2500);
+        assertThat(httpClient.configuration().protocols()).containsExactly(HttpProtocol.H2, HttpProtocol.HTTP11);
+        assertThat(httpClient.configuration().proxyProvider()).isNull();
+        assertThat(httpClient.configuration().sslProvider()).isNotNull();
+    }
+
+    private HttpClient create(List<HttpClientCustomizer> customizers) throws Exception {
+        UpstreamHttpClientFactory factory =
+            new UpstreamHttpClientFactory(properties, new ServerProperties(), customizers, upstreamProperties,
+                                          connectionProvider, mock(SecureUtils.class));
+        factory.afterPropertiesSet();
+
+        return factory.getObject();
+    }
+
+    private static Object connectTimeout(HttpClient httpClient) {
+        return httpClient.configuration().options().get(ChannelOption.CONNECT_TIMEOUT_MILLIS);
+    }
+
+}
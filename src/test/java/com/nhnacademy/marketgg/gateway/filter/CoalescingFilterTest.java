@@ -0,0 +1,112 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+class CoalescingFilterTest {
+
+    @Test
+    void followersGetOnlyTheBodyHeadersOfTheLeader() {
+        GatewayFilter filter = new CoalescingFilter(new SimpleMeterRegistry()).apply(new CoalescingFilter.Config());
+        Sinks.Empty<Void> gate = Sinks.empty();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            response.getHeaders().setETag("\"v1\"");
+            response.getHeaders().set("X-Gateway-Cache", "MISS");
+            response.getHeaders().setAccessControlAllowOrigin("https://leader.example.com");
+
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            return gate.asMono()
+                       .then(response.writeWith(Mono.just(response.bufferFactory().wrap(body))));
+        };
+
+        MockServerWebExchange leader = MockServerWebExchange.from(MockServerHttpRequest.get("/products"));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("/products"));
+        follower.getResponse().getHeaders().setAccessControlAllowOrigin("https://follower.example.com");
+
+        Mono<Void> leading = filter.filter(leader, upstream).cache();
+        leading.subscribe();
+        Mono<Void> following = filter.filter(follower, upstream).cache();
+        following.subscribe();
+
+        gate.tryEmitEmpty();
+        leading.block(Duration.ofSeconds(1));
+        following.block(Duration.ofSeconds(1));
+
+        HttpHeaders headers = follower.getResponse().getHeaders();
+        assertThat(upstreamCalls).hasValue(1);
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("{}");
+        assertThat(headers.getContentType()).isEqualTo(MediaType.APPLICATION_JSON);
+        assertThat(headers.getETag()).isEqualTo("\"v1\"");
+        assertThat(headers.getAccessControlAllowOrigin()).isEqualTo("https://follower.example.com");
+        assertThat(headers.containsKey("X-Gateway-Cache")).isFalse();
+        assertThat(headers.getFirst("X-Gateway-Coalesced")).isEqualTo("true");
+    }
+
+    @Test
+    void notModifiedForAConditionalLeaderIsNotSharedWithUnconditionalFollowers() {
+        GatewayFilter filter = new CoalescingFilter(new SimpleMeterRegistry()).apply(new CoalescingFilter.Config());
+        Sinks.Empty<Void> gate = Sinks.empty();
+        AtomicInteger upstreamCalls = new AtomicInteger();
+
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+
+            ServerHttpResponse response = exchange.getResponse();
+            response.getHeaders().setETag("\"v1\"");
+
+            if (exchange.getRequest().getHeaders().containsKey(HttpHeaders.IF_NONE_MATCH)) {
+                response.setStatusCode(HttpStatus.NOT_MODIFIED);
+                return gate.asMono().then(response.writeWith(Flux.empty()));
+            }
+
+            response.setStatusCode(HttpStatus.OK);
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            return gate.asMono()
+                       .then(response.writeWith(Mono.just(response.bufferFactory().wrap(body))));
+        };
+
+        MockServerWebExchange leader = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+        MockServerWebExchange follower = MockServerWebExchange.from(MockServerHttpRequest.get("/products"));
+
+        Mono<Void> leading = filter.filter(leader, upstream).cache();
+        leading.subscribe();
+        Mono<Void> following = filter.filter(follower, upstream).cache();
+        following.subscribe();
+
+        gate.tryEmitEmpty();
+        leading.block(Duration.ofSeconds(1));
+        following.block(Duration.ofSeconds(1));
+
+        assertThat(upstreamCalls).hasValue(2);
+        assertThat(leader.getResponse().getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(follower.getResponse().getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(follower.getResponse().getBodyAsString().block()).isEqualTo("{}");
+        assertThat(follower.getResponse().getHeaders().containsKey("X-Gateway-Coalesced")).isFalse();
+    }
+
+}
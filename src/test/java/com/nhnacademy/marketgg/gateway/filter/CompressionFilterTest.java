@@ -0,0 +1,81 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class CompressionFilterTest {
+
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        CompressionFilter.Config config = new CompressionFilter.Config();
+        config.setMinSize(0);
+        filter = new CompressionFilter(4, new SimpleMeterRegistry()).apply(config);
+    }
+
+    @Test
+    void compressesJsonResponses() {
+        MockServerWebExchange exchange = this.exchange();
+
+        filter.filter(exchange, this.upstream(HttpStatus.OK, headers -> {
+        })).block();
+
+        assertThat(exchange.getResponse().getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+    }
+
+    @Test
+    void partialContentIsNotCompressed() {
+        MockServerWebExchange exchange = this.exchange();
+
+        filter.filter(exchange, this.upstream(HttpStatus.PARTIAL_CONTENT,
+                                              headers -> headers.set(HttpHeaders.CONTENT_RANGE, "bytes 0-1/10")))
+              .block();
+
+        assertThat(exchange.getResponse().getHeaders()).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+        assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("{}");
+    }
+
+    @Test
+    void responsesWithContentRangeAreNotCompressed() {
+        MockServerWebExchange exchange = this.exchange();
+
+        filter.filter(exchange, this.upstream(HttpStatus.OK,
+                                              headers -> headers.set(HttpHeaders.CONTENT_RANGE, "bytes */10")))
+              .block();
+
+        assertThat(exchange.getResponse().getHeaders()).doesNotContainKey(HttpHeaders.CONTENT_ENCODING);
+    }
+
+    private MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header(HttpHeaders.ACCEPT_ENCODING, "gzip"));
+    }
+
+    private GatewayFilterChain upstream(HttpStatus status, Consumer<HttpHeaders> headers) {
+        return exchange -> {
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(status);
+            response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            headers.accept(response.getHeaders());
+
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class HeaderFilterTest {
+
+    private final HeaderFilter headerFilter = new HeaderFilter(new GatewayMetrics(new SimpleMeterRegistry()));
+
+    @Test
+    void clientIpIsTheAddressSeenByTheTrustedProxy() {
+        GatewayFilter filter = headerFilter.apply(new HeaderFilter.Config("X-Forwarded-For"));
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header("X-Forwarded-For", "1.1.1.1, 203.0.113.7"));
+
+        filter.filter(exchange, ex -> Mono.empty()).block();
+
+        assertThat((String) exchange.getAttribute(AccessLogFilter.CLIENT_IP_ATTR)).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void forwardedForIsIgnoredWithoutTrustedProxies() {
+        GatewayFilter filter = headerFilter.apply(new HeaderFilter.Config("X-Forwarded-For", 0));
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header("X-Forwarded-For", "1.1.1.1"));
+
+        filter.filter(exchange, ex -> Mono.empty()).block();
+
+        assertThat((String) exchange.getAttribute(AccessLogFilter.CLIENT_IP_ATTR)).isNotEqualTo("1.1.1.1");
+    }
+
+}
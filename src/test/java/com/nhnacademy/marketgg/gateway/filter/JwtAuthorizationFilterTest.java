@@ -0,0 +1,91 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.marketgg.gateway.jwt.JwtKeyRing;
+import com.nhnacademy.marketgg.gateway.jwt.JwtUtils;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedTokenCache;
+import com.nhnacademy.marketgg.gateway.metrics.GatewayMetrics;
+import com.nhnacademy.marketgg.gateway.revocation.RevocationChecker;
+import com.nhnacademy.marketgg.gateway.revocation.SessionEpochChecker;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class JwtAuthorizationFilterTest {
+
+    private final Key key = Keys.hmacShaKeyFor("0123456789abcdef0123456789abcdef".getBytes());
+
+    private SimpleMeterRegistry meterRegistry;
+    private GatewayFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        RevocationChecker revocationChecker = mock(RevocationChecker.class);
+        when(revocationChecker.isRevoked(anyString())).thenReturn(Mono.just(Boolean.FALSE));
+        SessionEpochChecker sessionEpochChecker = mock(SessionEpochChecker.class);
+
+        filter = new JwtAuthorizationFilter(JwtKeyRing.of(key), revocationChecker, sessionEpochChecker,
+                                            new VerifiedTokenCache(100, Duration.ofMinutes(5), meterRegistry),
+                                            new GatewayMetrics(meterRegistry))
+            .apply(new JwtAuthorizationFilter.Config());
+    }
+
+    @Test
+    void validOutcomeIsCountedOnCacheHitsToo() {
+        String token = this.token(key);
+
+        this.send(token);
+        this.send(token);
+
+        assertThat(this.outcome("valid")).isEqualTo(2);
+    }
+
+    @Test
+    void failedOutcomeIsCountedPerRequest() {
+        String token = this.token(Keys.hmacShaKeyFor("fedcba9876543210fedcba9876543210".getBytes()));
+
+        this.send(token);
+        this.send(token);
+
+        assertThat(this.outcome("invalid_signature")).isEqualTo(2);
+        assertThat(this.outcome("valid")).isZero();
+    }
+
+    private void send(String token) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+        filter.filter(exchange, ex -> Mono.empty()).block();
+    }
+
+    private double outcome(String outcome) {
+        return meterRegistry.get("gg.jwt.outcome").tag("outcome", outcome).counter().count();
+    }
+
+    private String token(Key signingKey) {
+        return Jwts.builder()
+                   .setSubject("user")
+                   .claim(JwtUtils.AUTHORITIES, List.of("ROLE_USER"))
+                   .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                   .signWith(signingKey)
+                   .compact();
+    }
+
+}
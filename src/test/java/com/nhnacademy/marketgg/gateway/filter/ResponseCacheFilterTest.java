@@ -0,0 +1,105 @@
+package com.nhnacademy.marketgg.gateway.filter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.marketgg.gateway.cache.CachedResponse;
+import com.nhnacademy.marketgg.gateway.cache.ResponseCacheStore;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaimsFixture;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class ResponseCacheFilterTest {
+
+    private ResponseCacheStore store;
+    private GatewayFilter filter;
+    private AtomicInteger upstreamCalls;
+
+    @BeforeEach
+    void setUp() {
+        store = mock(ResponseCacheStore.class);
+        when(store.get(anyString())).thenReturn(Mono.empty());
+        filter = new ResponseCacheFilter(store, new SimpleMeterRegistry()).apply(new ResponseCacheFilter.Config());
+        upstreamCalls = new AtomicInteger();
+    }
+
+    @Test
+    void unverifiedCredentialsBypassTheCache() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header(HttpHeaders.AUTHORIZATION, "Bearer forged"));
+
+        filter.filter(exchange, this.upstream("public, max-age=30")).block();
+
+        assertThat(upstreamCalls).hasValue(1);
+        verify(store, never()).get(anyString());
+        verify(store, never()).put(anyString(), any());
+    }
+
+    @Test
+    void verifiedRequestsAreCachedWhenSharingIsAllowed() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header(HttpHeaders.AUTHORIZATION, "Bearer token"));
+        exchange.getAttributes().put(JwtAuthorizationFilter.CLAIMS_ATTR, VerifiedClaimsFixture.claims("alice"));
+
+        filter.filter(exchange, this.upstream("public, max-age=30")).block();
+
+        assertThat(this.storedTtlSeconds()).isEqualTo(30);
+    }
+
+    @Test
+    void directivesAreMatchedAsWholeTokens() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/products").header(HttpHeaders.CACHE_CONTROL, "x-no-store-hint"));
+
+        filter.filter(exchange, this.upstream("max-age=\"20\", x-private-hint, stale-if-error=60")).block();
+
+        assertThat(this.storedTtlSeconds()).isEqualTo(20);
+    }
+
+    @Test
+    void privateResponsesAreNotStored() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products"));
+
+        filter.filter(exchange, this.upstream("max-age=20, Private")).block();
+
+        verify(store, never()).put(anyString(), any());
+    }
+
+    private GatewayFilterChain upstream(String cacheControl) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+
+            ServerHttpResponse response = exchange.getResponse();
+            response.setStatusCode(HttpStatus.OK);
+            response.getHeaders().setCacheControl(cacheControl);
+
+            byte[] body = "{}".getBytes(StandardCharsets.UTF_8);
+            return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+        };
+    }
+
+    private long storedTtlSeconds() {
+        ArgumentCaptor<CachedResponse> stored = ArgumentCaptor.forClass(CachedResponse.class);
+        verify(store).put(anyString(), stored.capture());
+
+        return (stored.getValue().getExpiresAt() - stored.getValue().getStoredAt()) / 1000;
+    }
+
+}
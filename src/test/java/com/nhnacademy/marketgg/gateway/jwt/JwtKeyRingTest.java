@@ -0,0 +1,80 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import java.security.Key;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class JwtKeyRingTest {
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    @Test
+    void verifiesTokenSignedByCurrentKey() {
+        Key key = newKey();
+        JwtKeyRing keyRing = JwtKeyRing.of(key);
+
+        TokenVerification verification = keyRing.verify(token(key, new Date(System.currentTimeMillis() + 60_000)));
+
+        assertThat(verification.isValid()).isTrue();
+        assertThat(verification.getClaims().getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void verifiesTokenWithoutKeyIdSignedByPreviousKey() {
+        Key previous = newKey();
+        JwtKeyRing keyRing = JwtKeyRing.of(previous);
+        keyRing.rotate(newKey());
+
+        TokenVerification verification =
+            keyRing.verify(token(previous, new Date(System.currentTimeMillis() + 60_000)));
+
+        assertThat(verification.getOutcome()).isEqualTo(TokenOutcome.VALID);
+        assertThat(verification.getClaims()).isNotNull();
+    }
+
+    @Test
+    void reportsInvalidSignatureWithoutAllocatingResult() {
+        JwtKeyRing keyRing = JwtKeyRing.of(newKey());
+        String token = token(newKey(), new Date(System.currentTimeMillis() + 60_000));
+
+        TokenVerification verification = keyRing.verify(token);
+
+        assertThat(verification.getOutcome()).isEqualTo(TokenOutcome.INVALID_SIGNATURE);
+        assertThat(verification.getClaims()).isNull();
+        assertThat(keyRing.verify(token)).isSameAs(verification);
+    }
+
+    @Test
+    void reportsExpiredToken() {
+        Key key = newKey();
+        JwtKeyRing keyRing = JwtKeyRing.of(key);
+
+        TokenVerification verification = keyRing.verify(token(key, new Date(System.currentTimeMillis() - 60_000)));
+
+        assertThat(verification.getOutcome()).isEqualTo(TokenOutcome.EXPIRED);
+        assertThat(verification.isValid()).isFalse();
+    }
+
+    private static Key newKey() {
+        byte[] secret = new byte[32];
+        RANDOM.nextBytes(secret);
+
+        return Keys.hmacShaKeyFor(secret);
+    }
+
+    private static String token(Key key, Date expiration) {
+        return Jwts.builder()
+                   .setSubject("user")
+                   .claim(JwtUtils.AUTHORITIES, List.of("ROLE_USER"))
+                   .setExpiration(expiration)
+                   .signWith(key)
+                   .compact();
+    }
+
+}
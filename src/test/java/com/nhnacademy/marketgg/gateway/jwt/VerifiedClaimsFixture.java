@@ -0,0 +1,17 @@
+package com.nhnacademy.marketgg.gateway.jwt;
+
+import java.util.List;
+
+/**
+ * 다른 패키지의 테스트에서 검증된 클레임을 만들 때 씁니다.
+ */
+public final class VerifiedClaimsFixture {
+
+    private VerifiedClaimsFixture() {
+    }
+
+    public static VerifiedClaims claims(String subject, String... authorities) {
+        return new VerifiedClaims(subject, List.of(authorities), "[]", null, null);
+    }
+
+}
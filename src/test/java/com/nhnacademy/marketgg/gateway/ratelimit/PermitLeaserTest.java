@@ -0,0 +1,97 @@
+package com.nhnacademy.marketgg.gateway.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+class PermitLeaserTest {
+
+    private static final int REQUESTS = 30;
+
+    private ReactiveRedisTemplate<String, String> reactiveRedisTemplate;
+    private PermitLeaser permitLeaser;
+    private RateLimit limit;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        permitLeaser = new PermitLeaser(reactiveRedisTemplate, Duration.ofSeconds(1), 1000);
+        limit = new RateLimit();
+        limit.setLeaseSize(3);
+        limit.setLeaseTtl(Duration.ofSeconds(10));
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    void concurrentWaitersUseEveryTokenInTheBucket() {
+        AtomicLong bucket = new AtomicLong(10);
+
+        this.givenRedis(() -> {
+            long granted = Math.min(limit.getLeaseSize(), bucket.get());
+            bucket.addAndGet(-granted);
+
+            return Flux.just(granted).delayElements(Duration.ofMillis(20));
+        });
+
+        List<Boolean> results = this.acquireConcurrently();
+
+        assertThat(results).hasSize(REQUESTS);
+        assertThat(results.stream().filter(Boolean.TRUE::equals).count()).isEqualTo(10);
+        assertThat(bucket.get()).isZero();
+    }
+
+    @Test
+    void redisFailureLetsEveryCoalescedWaiterThrough() {
+        this.givenRedis(() -> Flux.<Long>error(new RedisConnectionFailureException("down"))
+                                  .delaySubscription(Duration.ofMillis(20)));
+
+        List<Boolean> results = this.acquireConcurrently();
+
+        assertThat(results).hasSize(REQUESTS)
+                           .containsOnly(Boolean.TRUE);
+        assertThat(calls.get()).isEqualTo(1);
+    }
+
+    @Test
+    void emptyBucketDenies() {
+        this.givenRedis(() -> Flux.just(0L));
+
+        assertThat(permitLeaser.acquire("route:user:1", limit).block()).isFalse();
+    }
+
+    private List<Boolean> acquireConcurrently() {
+        List<Mono<Boolean>> acquires = IntStream.range(0, REQUESTS)
+                                                .mapToObj(i -> permitLeaser.acquire("route:user:1", limit))
+                                                .collect(Collectors.toList());
+
+        return Flux.merge(acquires)
+                   .collectList()
+                   .block(Duration.ofSeconds(5));
+    }
+
+    private void givenRedis(Supplier<Flux<Long>> response) {
+        doAnswer(invocation -> {
+            calls.incrementAndGet();
+            return Flux.defer(response);
+        }).when(reactiveRedisTemplate).execute(any(), anyList(), anyList());
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.nhnacademy.marketgg.gateway.config.ReloadableRedisConnectionFactory;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+class NearCacheRevocationCheckerTest {
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void clusterModeAlwaysAsksRedisDirectly() {
+        RedisRevocationChecker directChecker = mock(RedisRevocationChecker.class);
+        ReactiveRedisTemplate<String, String> reactiveRedisTemplate = mock(ReactiveRedisTemplate.class);
+        ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate = mock(ReactiveRedisTemplate.class);
+        ReloadableRedisConnectionFactory connectionFactory = mock(ReloadableRedisConnectionFactory.class);
+        when(connectionFactory.isClusterAware()).thenReturn(true);
+        when(directChecker.isRevoked("token")).thenReturn(Mono.just(Boolean.TRUE));
+
+        NearCacheRevocationChecker checker =
+            new NearCacheRevocationChecker(directChecker, reactiveRedisTemplate, binaryRedisTemplate,
+                                           RevocationKeyFormat.LEGACY, connectionFactory, "eyJ*", 1000, 0.01,
+                                           Duration.ofMillis(10), true);
+        checker.start();
+
+        assertThat(checker.isRevoked("token").block()).isTrue();
+        assertThat(checker.isSynced()).isFalse();
+        verify(directChecker).isRevoked("token");
+        verifyNoInteractions(reactiveRedisTemplate, binaryRedisTemplate);
+
+        checker.stop();
+    }
+
+}
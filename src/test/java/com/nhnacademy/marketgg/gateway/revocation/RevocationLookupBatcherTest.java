@@ -0,0 +1,42 @@
+package com.nhnacademy.marketgg.gateway.revocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Collections;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import reactor.core.publisher.Mono;
+
+class RevocationLookupBatcherTest {
+
+    @Test
+    void existingKeyWithEmptyValueIsRevoked() {
+        assertThat(this.lookup(new byte[0])).isTrue();
+    }
+
+    @Test
+    void missingKeyIsNotRevoked() {
+        assertThat(this.lookup(null)).isFalse();
+    }
+
+    @SuppressWarnings("unchecked")
+    private Boolean lookup(byte[] value) {
+        ReactiveRedisTemplate<byte[], byte[]> binaryRedisTemplate = mock(ReactiveRedisTemplate.class);
+        ReactiveValueOperations<byte[], byte[]> valueOperations = mock(ReactiveValueOperations.class);
+        when(binaryRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.multiGet(anyList())).thenReturn(Mono.just(Collections.singletonList(value)));
+
+        RevocationLookupBatcher batcher =
+            new RevocationLookupBatcher(binaryRedisTemplate, RevocationKeyFormat.LEGACY, Duration.ofMillis(1), 16,
+                                        new SimpleMeterRegistry());
+
+        return batcher.lookup("token").block(Duration.ofSeconds(5));
+    }
+
+}
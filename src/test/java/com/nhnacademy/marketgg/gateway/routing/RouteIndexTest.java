@@ -0,0 +1,158 @@
+package com.nhnacademy.marketgg.gateway.routing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.handler.predicate.HostRoutePredicateFactory;
+import org.springframework.cloud.gateway.handler.predicate.MethodRoutePredicateFactory;
+import org.springframework.cloud.gateway.handler.predicate.PathRoutePredicateFactory;
+import org.springframework.cloud.gateway.handler.predicate.PredicateDefinition;
+import org.springframework.cloud.gateway.route.Route;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+class RouteIndexTest {
+
+    private final List<Route> routes = new ArrayList<>();
+    private final List<RouteDefinition> definitions = new ArrayList<>();
+
+    private RouteIndex index;
+
+    @BeforeEach
+    void setUp() {
+        this.define("products", "Path=/products/**");
+        this.define("product", "Path=/products/{id}", "Method=GET");
+        this.define("orders", "Path=/api/orders/**", "Method=POST,PUT");
+        this.define("shop", "Host=shop.example.com");
+        this.define("members", "Host=**.example.com", "Path=/members/**");
+        this.define("admin", "Path=/Admin/**");
+        this.define("app", "Path=/app/products/**");
+        this.define("root", "Path=/");
+        routes.add(Route.async()
+                        .id("dsl")
+                        .uri("http://localhost")
+                        .predicate(exchange -> exchange.getRequest().getHeaders().containsKey("X-Test"))
+                        .build());
+
+        index = RouteIndex.build(routes, definitions);
+    }
+
+    @Test
+    void candidatesContainEveryLinearMatchInOrder() {
+        List<MockServerHttpRequest> requests = List.of(
+            request(HttpMethod.GET, "/products", null),
+            request(HttpMethod.GET, "/products/1", null),
+            request(HttpMethod.GET, "/products/a%2Fb", null),
+            request(HttpMethod.GET, "/%70roducts/1", null),
+            request(HttpMethod.GET, "/products;v=1/1", null),
+            request(HttpMethod.GET, "//products/1", null),
+            request(HttpMethod.POST, "/api/orders/1", null),
+            request(HttpMethod.PUT, "/api/orders", null),
+            request(HttpMethod.GET, "/api/orders", null),
+            request(HttpMethod.GET, "/members/me", "a.example.com"),
+            request(HttpMethod.GET, "/anything", "SHOP.example.com"),
+            request(HttpMethod.GET, "/anything", "shop.example.com:8080"),
+            request(HttpMethod.GET, "/Admin/users", null),
+            request(HttpMethod.GET, "/admin/users", null),
+            request(HttpMethod.GET, "/", null),
+            MockServerHttpRequest.method(HttpMethod.GET, URI.create("/app/products/1")).contextPath("/app").build(),
+            MockServerHttpRequest.method(HttpMethod.GET, URI.create("/x")).header("X-Test", "1").build());
+
+        for (MockServerHttpRequest request : requests) {
+            List<String> linear = routes.stream()
+                                        .filter(route -> matches(route, request))
+                                        .map(Route::getId)
+                                        .collect(Collectors.toList());
+            List<String> candidates = ids(index.candidates(request));
+
+            assertThat(candidates.stream().filter(linear::contains).collect(Collectors.toList()))
+                .as(request.getURI().toString())
+                .isEqualTo(linear);
+        }
+    }
+
+    @Test
+    void matchesTheRawPathIncludingTheContextPath() {
+        MockServerHttpRequest request =
+            MockServerHttpRequest.method(HttpMethod.GET, URI.create("/app/products/1")).contextPath("/app").build();
+
+        assertThat(matches(routes.get(6), request)).isTrue();
+        assertThat(ids(index.candidates(request))).contains("app").doesNotContain("products", "product");
+    }
+
+    @Test
+    void narrowsTheCandidates() {
+        MockServerHttpRequest request = request(HttpMethod.GET, "/api/orders/1", "api.other.com");
+
+        assertThat(ids(index.candidates(request))).containsExactly("root", "dsl");
+        assertThat(index.getIndexedCount()).isEqualTo(8);
+    }
+
+    private void define(String id, String... predicates) {
+        RouteDefinition definition = new RouteDefinition();
+        definition.setId(id);
+        definition.setUri(URI.create("http://localhost"));
+        definition.setPredicates(new ArrayList<>());
+
+        Predicate<ServerWebExchange> predicate = exchange -> true;
+        for (String text : predicates) {
+            PredicateDefinition predicateDefinition = new PredicateDefinition(text);
+            definition.getPredicates().add(predicateDefinition);
+            predicate = predicate.and(toPredicate(predicateDefinition));
+        }
+
+        definitions.add(definition);
+        routes.add(Route.async().id(id).uri("http://localhost").predicate(predicate).build());
+    }
+
+    private static Predicate<ServerWebExchange> toPredicate(PredicateDefinition definition) {
+        List<String> values = new ArrayList<>(definition.getArgs().values());
+
+        switch (definition.getName()) {
+            case "Path":
+                return new PathRoutePredicateFactory().apply(new PathRoutePredicateFactory.Config()
+                                                                 .setPatterns(values));
+            case "Host":
+                return new HostRoutePredicateFactory().apply(new HostRoutePredicateFactory.Config()
+                                                                 .setPatterns(values));
+            case "Method":
+                MethodRoutePredicateFactory.Config config = new MethodRoutePredicateFactory.Config();
+                config.setMethods(values.stream().map(HttpMethod::valueOf).toArray(HttpMethod[]::new));
+                return new MethodRoutePredicateFactory().apply(config);
+            default:
+                throw new IllegalArgumentException(definition.getName());
+        }
+    }
+
+    private static MockServerHttpRequest request(HttpMethod method, String path, String host) {
+        MockServerHttpRequest.BaseBuilder<?> builder = MockServerHttpRequest.method(method, URI.create(path));
+
+        if (Objects.nonNull(host)) {
+            builder.header(HttpHeaders.HOST, host);
+        }
+
+        return builder.build();
+    }
+
+    private static boolean matches(Route route, MockServerHttpRequest request) {
+        return Boolean.TRUE.equals(Mono.from(route.getPredicate().apply(MockServerWebExchange.from(request)))
+                                       .block());
+    }
+
+    private static List<String> ids(List<Route> routes) {
+        return routes.stream().map(Route::getId).collect(Collectors.toList());
+    }
+
+}
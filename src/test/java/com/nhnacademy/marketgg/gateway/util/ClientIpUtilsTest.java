@@ -0,0 +1,44 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.InetSocketAddress;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+
+class ClientIpUtilsTest {
+
+    private static final String FORWARDED_FOR = "X-Forwarded-For";
+
+    @Test
+    void usesTheHopAddedByTheTrustedProxy() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/")
+                                                             .header(FORWARDED_FOR, "1.1.1.1, 10.0.0.7")
+                                                             .build();
+
+        assertThat(ClientIpUtils.clientIp(request, FORWARDED_FOR, 1)).isEqualTo("10.0.0.7");
+        assertThat(ClientIpUtils.clientIp(request, FORWARDED_FOR, 2)).isEqualTo("1.1.1.1");
+    }
+
+    @Test
+    void joinsRepeatedHeaders() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/")
+                                                             .header(FORWARDED_FOR, "1.1.1.1", "10.0.0.7")
+                                                             .build();
+
+        assertThat(ClientIpUtils.clientIp(request, FORWARDED_FOR, 1)).isEqualTo("10.0.0.7");
+    }
+
+    @Test
+    void fallsBackToTheRemoteAddress() {
+        MockServerHttpRequest request = MockServerHttpRequest.get("/")
+                                                             .header(FORWARDED_FOR, "1.1.1.1")
+                                                             .remoteAddress(new InetSocketAddress("10.0.0.9", 4321))
+                                                             .build();
+
+        assertThat(ClientIpUtils.clientIp(request, FORWARDED_FOR, 0)).isEqualTo("10.0.0.9");
+        assertThat(ClientIpUtils.clientIp(MockServerHttpRequest.get("/").build(), FORWARDED_FOR, 1))
+            .isEqualTo("unknown");
+    }
+
+}
@@ -0,0 +1,63 @@
+package com.nhnacademy.marketgg.gateway.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.nhnacademy.marketgg.gateway.filter.JwtAuthorizationFilter;
+import com.nhnacademy.marketgg.gateway.jwt.VerifiedClaimsFixture;
+import java.util.List;
+import java.util.Objects;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
+
+class RequestKeyUtilsTest {
+
+    private static final String PREFIX = "gg:test:";
+
+    @Test
+    void credentialHeadersAloneDoNotChangeTheKey() {
+        String anonymous = key(MockServerHttpRequest.get("/products"), null);
+        String forged = key(MockServerHttpRequest.get("/products")
+                                                 .header(HttpHeaders.AUTHORIZATION, "Bearer forged")
+                                                 .header(RequestKeyUtils.AUTH_ID, "someone-else"), null);
+
+        assertThat(forged).isEqualTo(anonymous);
+    }
+
+    @Test
+    void verifiedUsersGetTheirOwnKeys() {
+        String anonymous = key(MockServerHttpRequest.get("/products"), null);
+        String alice = key(MockServerHttpRequest.get("/products"), "alice");
+        String bob = key(MockServerHttpRequest.get("/products"), "bob");
+
+        assertThat(alice).isNotEqualTo(anonymous).isNotEqualTo(bob);
+        assertThat(key(MockServerHttpRequest.get("/products"), "alice")).isEqualTo(alice);
+    }
+
+    @Test
+    void authenticatedMeansVerifiedClaims() {
+        MockServerWebExchange forged = MockServerWebExchange.from(
+            MockServerHttpRequest.get("/").header(HttpHeaders.AUTHORIZATION, "Bearer forged"));
+
+        assertThat(RequestKeyUtils.hasCredentials(forged.getRequest().getHeaders())).isTrue();
+        assertThat(RequestKeyUtils.isAuthenticated(forged)).isFalse();
+        assertThat(RequestKeyUtils.isAuthenticated(exchange(MockServerHttpRequest.get("/"), "alice"))).isTrue();
+    }
+
+    private static String key(MockServerHttpRequest.BaseBuilder<?> request, String subject) {
+        return RequestKeyUtils.key(PREFIX, exchange(request, subject), List.of(HttpHeaders.ACCEPT));
+    }
+
+    private static ServerWebExchange exchange(MockServerHttpRequest.BaseBuilder<?> request, String subject) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+        if (Objects.nonNull(subject)) {
+            exchange.getAttributes().put(JwtAuthorizationFilter.CLAIMS_ATTR, VerifiedClaimsFixture.claims(subject));
+        }
+
+        return exchange;
+    }
+
+}